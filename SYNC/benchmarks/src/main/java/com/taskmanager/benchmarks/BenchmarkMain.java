@@ -0,0 +1,43 @@
+package com.taskmanager.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Sama dengan main JMH biasa (semua opsi command line tetap berlaku), hanya hasilnya default ke
+// JSON bertanggal supaya run antar rilis/backend bisa disimpan dan dibandingkan
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions options;
+        try {
+            options = new CommandLineOptions(args);
+        } catch (CommandLineOptionException e) {
+            System.err.println("Error parsing command line: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        if (options.shouldHelp() || options.shouldList() || options.shouldListWithParams()
+                || options.shouldListProfilers() || options.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        ResultFormatType format = options.getResultFormat().orElse(ResultFormatType.JSON);
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(options).resultFormat(format);
+        if (!options.getResult().hasValue()) {
+            String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            Files.createDirectories(Paths.get("target"));
+            builder.result("target/jmh-" + stamp + "." + format.name().toLowerCase(Locale.ROOT));
+        }
+        new Runner(builder.build()).run();
+    }
+}
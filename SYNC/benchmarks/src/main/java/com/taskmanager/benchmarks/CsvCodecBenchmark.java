@@ -0,0 +1,100 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.utils.CsvCodec;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// CsvCodec dibandingkan dengan jalur lama: line.split(",", -1) untuk parse dan penggabungan string
+// di Task.toCSV. Baris "plain" tanpa koma/kutip adalah satu-satunya bentuk yang bisa dibaca split;
+// "quoted" (koma dan tanda kutip di judul, newline di deskripsi) tetap diukur untuk melihat biaya
+// quoting, walaupun hasil split-nya salah. filter* menolak baris milik user lain (kolom 7), seperti
+// pencarian task per username di file.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = Datasets.DATA_DIR_PROPERTY)
+public class CsvCodecBenchmark {
+
+    @Param({"plain", "quoted"})
+    public String shape;
+
+    private Task[] tasks;
+    private String[] lines;
+    private final String[] fields = new String[10];
+    private String owner;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Task> generated = Datasets.tasks(1024, 16);
+        tasks = new Task[generated.size()];
+        lines = new String[generated.size()];
+        for (int i = 0; i < tasks.length; i++) {
+            Task task = generated.get(i);
+            if (shape.equals("quoted")) {
+                task.setTitle(task.getTitle() + ", \"bab " + i + "\"");
+                task.setDescription(task.getDescription() + "\nrevisi");
+            }
+            tasks[i] = task;
+            lines[i] = task.toCSV();
+        }
+        owner = tasks[0].getCreatedBy();
+    }
+
+    private int next() {
+        return cursor++ & (tasks.length - 1);
+    }
+
+    @Benchmark
+    public String[] parseSplit() {
+        return lines[next()].split(",", -1);
+    }
+
+    // Array field dipakai ulang, sama seperti pembaca tasks.csv dan journal
+    @Benchmark
+    public String[] parseCodec() {
+        CsvCodec.parse(lines[next()], fields);
+        return fields;
+    }
+
+    @Benchmark
+    public boolean filterSplit() {
+        return lines[next()].split(",", -1)[7].equals(owner);
+    }
+
+    @Benchmark
+    public boolean filterCodec() {
+        return CsvCodec.fieldEquals(lines[next()], 7, owner);
+    }
+
+    // Sama dengan Task.toCSV sebelum CsvCodec
+    @Benchmark
+    public String formatConcat() {
+        Task task = tasks[next()];
+        String safeDescription = task.getDescription() != null ? task.getDescription().replace("\n", "\\n") : "";
+        return task.getId() + "," + task.getTitle() + "," + safeDescription + "," + task.getCategory() + ","
+                + task.getPriority().label() + "," + task.getStatus().code() + "," + task.getProgress() + ","
+                + task.getCreatedBy() + "," + task.getCreatedAt() + ","
+                + (task.getDeadline() != null ? task.getDeadline() : "");
+    }
+
+    @Benchmark
+    public String formatCodec() {
+        return tasks[next()].toCSV();
+    }
+}
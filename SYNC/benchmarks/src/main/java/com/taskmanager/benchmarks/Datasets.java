@@ -0,0 +1,150 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskPriority;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.model.User;
+import com.taskmanager.utils.BinaryTaskStore;
+import com.taskmanager.utils.BinaryUserStore;
+import com.taskmanager.utils.CsvTaskStore;
+import com.taskmanager.utils.CsvUserStore;
+import com.taskmanager.utils.JdbcTaskStore;
+import com.taskmanager.utils.JdbcUserStore;
+import com.taskmanager.utils.MemoryTaskStore;
+import com.taskmanager.utils.MemoryUserStore;
+import com.taskmanager.utils.TaskStore;
+import com.taskmanager.utils.UserStore;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Data sintetis dengan seed tetap supaya hasil antar rilis bisa dibandingkan
+final class Datasets {
+    // Setiap @Fork mengisi -Dsync.data.dir; tanpa itu CSVHelper akan memakai SYNC/data yang asli
+    static final String DATA_DIR_PROPERTY = "-Dsync.data.dir=target/bench-data";
+
+    static final String[] SUBJECTS = {
+            "Basis Data",
+            "Desain Analisis dan Algoritma",
+            "Pemrograman Berorientasi Objek",
+            "Pendidikan Kewarganegaraan",
+            "Metode Numerik",
+            "Matematika Diskrit",
+            "Sistem Operasi"
+    };
+    private static final String[] WORDS = {
+            "tugas", "laporan", "praktikum", "kuis", "ujian", "bab", "normalisasi", "query",
+            "graf", "pohon", "rekursi", "proses", "thread", "matriks", "integral", "presentasi"
+    };
+
+    private Datasets() {
+    }
+
+    static String username(int index) {
+        return "user" + index;
+    }
+
+    // Task dibagi rata ke users; sepertiga tanpa deadline, sisanya tersebar -30..+60 hari
+    static List<Task> tasks(int rows, int users) {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        List<Task> tasks = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            String deadline = random.nextInt(3) == 0 ? "" : now.plusHours(random.nextInt(90 * 24) - 30 * 24).toString();
+            Task task = new Task(sentence(random, 3) + " " + i, sentence(random, 12),
+                    SUBJECTS[random.nextInt(SUBJECTS.length)],
+                    TaskPriority.values()[random.nextInt(TaskPriority.values().length)].label(),
+                    username(i % users), deadline);
+            task.setStatus(TaskStatus.values()[random.nextInt(TaskStatus.values().length)]);
+            task.setProgress(task.getStatus() == TaskStatus.DONE ? 100 : random.nextInt(100));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(new User(username(i), "password" + i, username(i) + "@example.com"));
+        }
+        return users;
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+
+    // Store baru yang sudah berisi tasks, dengan nama yang sama seperti -Dsync.store
+    static TaskStore taskStore(String kind, List<Task> tasks) throws IOException {
+        clearDataDir();
+        TaskStore store;
+        switch (kind) {
+            case "memory":
+                return new MemoryTaskStore(tasks);
+            case "binary":
+                store = new BinaryTaskStore(100, 256);
+                break;
+            case "jdbc":
+                store = new JdbcTaskStore(System.getProperty("sync.store.jdbc.url"));
+                tasks.forEach(store::upsert);
+                return store;
+            case "csv-rewrite":
+                store = new CsvTaskStore(false, 0, 1);
+                break;
+            default:
+                store = new CsvTaskStore(true, 100, 256);
+        }
+        store.finishCompaction(tasks);
+        return store;
+    }
+
+    static UserStore userStore(String kind, List<User> users) throws IOException {
+        clearDataDir();
+        UserStore store;
+        switch (kind) {
+            case "memory":
+                return new MemoryUserStore(users);
+            case "binary":
+                store = new BinaryUserStore();
+                break;
+            case "jdbc":
+                store = new JdbcUserStore(System.getProperty("sync.store.jdbc.url"));
+                users.forEach(store::upsert);
+                return store;
+            default:
+                store = new CsvUserStore();
+        }
+        store.finishCompaction(users);
+        return store;
+    }
+
+    private static void clearDataDir() throws IOException {
+        String dir = System.getProperty("sync.data.dir");
+        if (dir == null) {
+            throw new IllegalStateException("sync.data.dir belum diisi, jalankan lewat @Fork(jvmArgsAppend = "
+                    + "Datasets.DATA_DIR_PROPERTY)");
+        }
+        Path path = Paths.get(dir);
+        Files.createDirectories(path);
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(path)) {
+            for (Path file : stream) {
+                if (Files.isRegularFile(file)) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+}
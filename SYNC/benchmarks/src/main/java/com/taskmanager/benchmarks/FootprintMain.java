@@ -0,0 +1,83 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.utils.CsvCodec;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jol.info.GraphLayout;
+
+// Jejak memori task menurut JOL. Setiap baris tasks.csv di-parse sendiri-sendiri, jadi setiap task
+// punya salinan String-nya sendiri, sama seperti saat aplikasi memuat tasks.csv. Dibandingkan dengan
+// bentuk sebelum enum, StringDictionary dan epoch millis: sepuluh kolom CSV disimpan apa adanya.
+// Isi StringDictionary (nama subject/user, sekali per nama) tidak ikut dihitung di sisi Task.
+//
+// java -Xmx6g -Djdk.attach.allowAttachSelf -XX:+EnableDynamicAgentLoading -cp target/benchmarks.jar \
+//     com.taskmanager.benchmarks.FootprintMain [rows] [users]
+public class FootprintMain {
+
+    // Bentuk Task lama: semua kolom String kecuali progress
+    private static final class StringTask {
+        private final String id;
+        private final String title;
+        private final String description;
+        private final String category;
+        private final String priority;
+        private final String status;
+        private final int progress;
+        private final String createdBy;
+        private final String createdAt;
+        private final String deadline;
+
+        private StringTask(String[] parts) {
+            this.id = parts[0];
+            this.title = parts[1];
+            this.description = parts[2];
+            this.category = parts[3];
+            this.priority = parts[4];
+            this.status = parts[5];
+            this.progress = Integer.parseInt(parts[6]);
+            this.createdBy = parts[7];
+            this.createdAt = parts[8];
+            this.deadline = parts[9];
+        }
+    }
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int users = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+
+        String[] lines = new String[rows];
+        List<Task> generated = Datasets.tasks(rows, users);
+        for (int i = 0; i < rows; i++) {
+            lines[i] = generated.get(i).toCSV();
+        }
+        generated = null;
+
+        String[] parts = new String[10];
+        List<StringTask> before = new ArrayList<>(rows);
+        for (String line : lines) {
+            CsvCodec.parse(line, parts);
+            before.add(new StringTask(parts));
+        }
+        long beforeBytes = GraphLayout.parseInstance(before).totalSize();
+        before = null;
+
+        List<Task> after = new ArrayList<>(rows);
+        for (String line : lines) {
+            CsvCodec.parse(line, parts);
+            after.add(new Task(parts[0], parts[1], parts[2], parts[3], parts[4], parts[5],
+                    Integer.parseInt(parts[6]), parts[7], parts[8], parts[9]));
+        }
+        long afterBytes = GraphLayout.parseInstance(after).totalSize();
+
+        System.out.printf("%,d task, %,d user%n", rows, users);
+        print("String per kolom", beforeBytes, rows);
+        print("Task", afterBytes, rows);
+        System.out.println();
+        System.out.println(GraphLayout.parseInstance(after.get(0)).toFootprint());
+    }
+
+    private static void print(String label, long bytes, int rows) {
+        System.out.printf("%-18s %,8.1f MB  %6.1f B/task%n", label, bytes / 1e6, (double) bytes / rows);
+    }
+}
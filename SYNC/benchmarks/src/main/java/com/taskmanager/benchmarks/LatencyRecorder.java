@@ -0,0 +1,54 @@
+package com.taskmanager.benchmarks;
+
+import java.util.Arrays;
+
+// Semua sampel latency (nanodetik) satu jenis operasi disimpan apa adanya, persentil dihitung
+// dari array yang diurutkan di akhir. Satu recorder per thread, digabung dengan merge.
+class LatencyRecorder {
+    private long[] samples = new long[1024];
+    private int count = 0;
+    private boolean sorted = true;
+
+    void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        sorted = false;
+    }
+
+    void merge(LatencyRecorder other) {
+        for (int i = 0; i < other.count; i++) {
+            record(other.samples[i]);
+        }
+    }
+
+    int count() {
+        return count;
+    }
+
+    double mean() {
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total += samples[i];
+        }
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    // Nearest-rank: sampel terkecil yang >= fraction dari semua sampel
+    long percentile(double fraction) {
+        if (count == 0) {
+            return 0;
+        }
+        if (!sorted) {
+            Arrays.sort(samples, 0, count);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(fraction * count);
+        return samples[Math.max(0, Math.min(count, rank) - 1)];
+    }
+
+    long max() {
+        return percentile(1.0);
+    }
+}
@@ -0,0 +1,300 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskFilter;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.model.User;
+import com.taskmanager.utils.CSVHelper;
+import com.taskmanager.utils.SubjectHelper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Load test tanpa JavaFX: buat dataset, lalu jalankan campuran operasi lewat CSVHelper/SubjectHelper
+// (entry point yang sama dengan controller) dan laporkan throughput + p50/p99/p999 per operasi.
+//
+// java -Dsync.data.dir=target/load-data [-Dsync.store=binary] -cp target/benchmarks.jar \
+//     com.taskmanager.benchmarks.LoadDriver --users=1000 --tasks-per-user=200 --ops=200000 --threads=4
+//
+// Opsi dataset: --users --tasks-per-user --subjects --subject-skew --no-deadline --overdue
+//               --deadline-days --description-words --seed, atau --reuse untuk memakai data yang ada
+// Opsi workload: --ops --warmup --threads --mix=login:5,board:30,drag:25,edit:20,create:10,delete:9,rename:1
+public class LoadDriver {
+
+    enum Operation {
+        LOGIN, BOARD, DRAG, EDIT, CREATE, DELETE, RENAME;
+
+        String label() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final String DEFAULT_MIX = "login:5,board:30,drag:25,edit:20,create:10,delete:9,rename:1";
+
+    private final WorkloadGenerator generator;
+    private final int users;
+    private final int[] mix;
+    private final int mixTotal;
+    private final AtomicInteger renames = new AtomicInteger();
+    private final AtomicLong failures = new AtomicLong();
+
+    private LoadDriver(WorkloadGenerator generator, int users, int[] mix) {
+        this.generator = generator;
+        this.users = users;
+        this.mix = mix;
+        int total = 0;
+        for (int weight : mix) {
+            total += weight;
+        }
+        this.mixTotal = total;
+    }
+
+    public static void main(String[] args) throws Exception {
+        // CSVHelper membaca sync.data.dir sekali; tanpa ini dataset akan menimpa SYNC/data
+        String dataDir = System.getProperty("sync.data.dir");
+        if (dataDir == null) {
+            System.err.println("Jalankan dengan -Dsync.data.dir=<folder dataset>, misalnya target/load-data");
+            System.exit(1);
+            return;
+        }
+        Map<String, String> options = parse(args);
+        WorkloadGenerator generator = new WorkloadGenerator();
+        generator.users = Integer.parseInt(options.getOrDefault("users", String.valueOf(generator.users)));
+        generator.tasksPerUser = Double.parseDouble(options.getOrDefault("tasks-per-user", String.valueOf(generator.tasksPerUser)));
+        generator.subjects = Integer.parseInt(options.getOrDefault("subjects", String.valueOf(generator.subjects)));
+        generator.subjectSkew = Double.parseDouble(options.getOrDefault("subject-skew", String.valueOf(generator.subjectSkew)));
+        generator.noDeadline = Double.parseDouble(options.getOrDefault("no-deadline", String.valueOf(generator.noDeadline)));
+        generator.overdue = Double.parseDouble(options.getOrDefault("overdue", String.valueOf(generator.overdue)));
+        generator.deadlineDays = Integer.parseInt(options.getOrDefault("deadline-days", String.valueOf(generator.deadlineDays)));
+        generator.descriptionWords = Double.parseDouble(options.getOrDefault("description-words", String.valueOf(generator.descriptionWords)));
+        generator.seed = Long.parseLong(options.getOrDefault("seed", String.valueOf(generator.seed)));
+
+        Path dir = Paths.get(dataDir);
+        int users;
+        if (options.containsKey("reuse")) {
+            try (var lines = Files.lines(dir.resolve("users.csv"))) {
+                users = (int) lines.filter(line -> !line.isBlank()).count();
+            }
+            System.out.printf("Dataset lama di %s: %d users%n", dir, users);
+        } else {
+            long start = System.nanoTime();
+            long tasks = generator.generate(dir);
+            users = generator.users;
+            System.out.printf("Dataset di %s: %d users, %d tasks, %d subjects (%.1f s)%n",
+                    dir, users, tasks, generator.subjects, (System.nanoTime() - start) / 1e9);
+        }
+
+        LoadDriver driver = new LoadDriver(generator, users, parseMix(options.getOrDefault("mix", DEFAULT_MIX)));
+        driver.run(Integer.parseInt(options.getOrDefault("ops", "100000")),
+                Integer.parseInt(options.getOrDefault("warmup", "10000")),
+                Integer.parseInt(options.getOrDefault("threads", "1")));
+        System.exit(0);
+    }
+
+    private void run(int ops, int warmup, int threads) throws InterruptedException {
+        // Load pertama (tasks.csv + log, users.csv) dihitung terpisah sebagai waktu startup
+        long start = System.nanoTime();
+        CSVHelper.getTasksByUsername(Datasets.username(0));
+        CSVHelper.getUserByUsername(Datasets.username(0));
+        SubjectHelper.getAllSubjects();
+        System.out.printf("Startup load: %.1f ms%n", (System.nanoTime() - start) / 1e6);
+
+        if (warmup > 0) {
+            runThreads(warmup, threads, -1);
+            System.out.printf("Warmup: %d ops%n", warmup);
+        }
+
+        start = System.nanoTime();
+        LatencyRecorder[] recorders = runThreads(ops, threads, generator.seed);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long flushStart = System.nanoTime();
+        CSVHelper.flush();
+        double flushMillis = (System.nanoTime() - flushStart) / 1e6;
+
+        report(recorders, seconds, threads);
+        System.out.printf("Flush di akhir: %.1f ms, operasi gagal: %d%n", flushMillis, failures.get());
+    }
+
+    private LatencyRecorder[] runThreads(int ops, int threads, long seed) throws InterruptedException {
+        List<Thread> workers = new ArrayList<>();
+        List<LatencyRecorder[]> perThread = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            LatencyRecorder[] recorders = newRecorders();
+            perThread.add(recorders);
+            int share = ops / threads + (t < ops % threads ? 1 : 0);
+            Random random = new Random(seed * 31 + t);
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < share; i++) {
+                    execute(pick(random), random, recorders);
+                }
+            }, "load-" + t);
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        LatencyRecorder[] merged = newRecorders();
+        for (LatencyRecorder[] recorders : perThread) {
+            for (int i = 0; i < merged.length; i++) {
+                merged[i].merge(recorders[i]);
+            }
+        }
+        return merged;
+    }
+
+    private static LatencyRecorder[] newRecorders() {
+        LatencyRecorder[] recorders = new LatencyRecorder[Operation.values().length];
+        for (int i = 0; i < recorders.length; i++) {
+            recorders[i] = new LatencyRecorder();
+        }
+        return recorders;
+    }
+
+    private Operation pick(Random random) {
+        int roll = random.nextInt(mixTotal);
+        for (Operation operation : Operation.values()) {
+            roll -= mix[operation.ordinal()];
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        return Operation.BOARD;
+    }
+
+    // Pemilihan task/subject target tidak ikut diukur, hanya panggilan yang dilakukan controller
+    private void execute(Operation operation, Random random, LatencyRecorder[] recorders) {
+        int user = random.nextInt(users);
+        String username = Datasets.username(user);
+        Task task = null;
+        if (operation == Operation.DRAG || operation == Operation.EDIT || operation == Operation.DELETE) {
+            List<Task> board = CSVHelper.getTasksByUsername(username);
+            if (board.isEmpty()) {
+                operation = Operation.CREATE;
+            } else {
+                task = board.get(random.nextInt(board.size()));
+            }
+        }
+
+        long start;
+        switch (operation) {
+            case LOGIN: {
+                start = System.nanoTime();
+                User found = CSVHelper.getUserByUsername(username);
+                if (found == null || !found.verifyPassword(WorkloadGenerator.password(user))) {
+                    failures.incrementAndGet();
+                }
+                break;
+            }
+            case BOARD: {
+                start = System.nanoTime();
+                CSVHelper.getTasksByUsername(username);
+                CSVHelper.countTasksBySubject(username, new TaskFilter());
+                SubjectHelper.getAllSubjects();
+                break;
+            }
+            case DRAG: {
+                TaskStatus[] statuses = TaskStatus.values();
+                TaskStatus status = statuses[(task.getStatus().ordinal() + 1 + random.nextInt(statuses.length - 1)) % statuses.length];
+                start = System.nanoTime();
+                // Seperti controller: task dari board milik repository, yang diubah salinannya
+                Task moved = task.copy();
+                moved.setStatus(status);
+                moved.setProgress(status == TaskStatus.DONE ? 100 : status == TaskStatus.IN_PROGRESS ? 10 : 0);
+                CSVHelper.updateTask(moved);
+                break;
+            }
+            case EDIT: {
+                String title = WorkloadGenerator.sentence(random, 2 + random.nextInt(4));
+                String description = WorkloadGenerator.sentence(random, 1 + random.nextInt(40));
+                String deadline = LocalDateTime.now().withNano(0).plusHours(random.nextInt(24 * 30)).toString();
+                start = System.nanoTime();
+                Task edited = task.copy();
+                edited.setTitle(title);
+                edited.setDescription(description);
+                edited.setDeadline(deadline);
+                CSVHelper.updateTask(edited);
+                break;
+            }
+            case CREATE: {
+                Task created = generator.task(random, SubjectHelper.getAllSubjects(), username, LocalDateTime.now().withNano(0));
+                start = System.nanoTime();
+                CSVHelper.saveTask(created);
+                break;
+            }
+            case DELETE: {
+                start = System.nanoTime();
+                CSVHelper.deleteTask(task.getId());
+                break;
+            }
+            default: {
+                List<String> subjects = SubjectHelper.getAllSubjects();
+                String oldName = subjects.get(random.nextInt(subjects.size()));
+                int suffix = oldName.lastIndexOf(" #");
+                String newName = (suffix >= 0 ? oldName.substring(0, suffix) : oldName) + " #" + renames.incrementAndGet();
+                start = System.nanoTime();
+                if (!SubjectHelper.updateSubject(oldName, newName)) {
+                    failures.incrementAndGet(); // subject yang sama sedang di-rename thread lain
+                }
+                break;
+            }
+        }
+        recorders[operation.ordinal()].record(System.nanoTime() - start);
+    }
+
+    private static void report(LatencyRecorder[] recorders, double seconds, int threads) {
+        long total = 0;
+        for (LatencyRecorder recorder : recorders) {
+            total += recorder.count();
+        }
+        System.out.printf("%n%d ops dalam %.2f s dengan %d thread: %.0f ops/s%n%n", total, seconds, threads, total / seconds);
+        System.out.printf("%-8s %10s %10s %10s %10s %10s %10s %10s%n",
+                "op", "count", "ops/s", "mean us", "p50 us", "p99 us", "p999 us", "max us");
+        for (Operation operation : Operation.values()) {
+            LatencyRecorder recorder = recorders[operation.ordinal()];
+            if (recorder.count() == 0) {
+                continue;
+            }
+            System.out.printf("%-8s %10d %10.0f %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                    operation.label(), recorder.count(), recorder.count() / seconds, recorder.mean() / 1e3,
+                    recorder.percentile(0.50) / 1e3, recorder.percentile(0.99) / 1e3,
+                    recorder.percentile(0.999) / 1e3, recorder.max() / 1e3);
+        }
+    }
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Opsi tidak dikenal: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+
+    private static int[] parseMix(String text) {
+        int[] weights = new int[Operation.values().length];
+        for (String part : text.split(",")) {
+            String[] pair = part.split(":");
+            weights[Operation.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)).ordinal()] = Integer.parseInt(pair[1].trim());
+        }
+        return weights;
+    }
+}
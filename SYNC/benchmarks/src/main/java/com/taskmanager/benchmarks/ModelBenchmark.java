@@ -0,0 +1,53 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.model.User;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Method model yang dipanggil per task saat menyimpan dan menggambar board
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = Datasets.DATA_DIR_PROPERTY)
+public class ModelBenchmark {
+    private List<Task> tasks;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tasks = Datasets.tasks(1024, 1);
+    }
+
+    private Task next() {
+        return tasks.get(cursor++ & (tasks.size() - 1));
+    }
+
+    @Benchmark
+    public String toCSV() {
+        return next().toCSV();
+    }
+
+    @Benchmark
+    public String getTimeRemaining() {
+        return next().getTimeRemaining();
+    }
+
+    @Benchmark
+    public String hashPassword() {
+        return User.hashPassword("password" + (cursor++ & 1023));
+    }
+}
@@ -0,0 +1,169 @@
+package com.taskmanager.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+// Ringkasan recording JFR yang diambil dengan jfr/sync.jfc: statistik per event aplikasi, waktu
+// storage per layar, lalu event UI paling lambat beserta storage/file I/O/GC/lock yang berjalan
+// bersamaan, supaya UI yang tersendat bisa langsung dikaitkan dengan I/O penyebabnya.
+//
+// java -cp target/benchmarks.jar com.taskmanager.benchmarks.RecordingSummary sync.jfr [--jank=50] [--top=10]
+public class RecordingSummary {
+    private static final String STORE = "com.taskmanager.Store";
+    private static final Set<String> UI = Set.of("com.taskmanager.SceneSwitch", "com.taskmanager.FxmlLoad",
+            "com.taskmanager.ViewRefresh");
+    private static final Set<String> CONTEXT = Set.of(STORE, "jdk.FileRead", "jdk.FileWrite", "jdk.FileForce",
+            "jdk.GarbageCollection", "jdk.JavaMonitorEnter");
+    private static final int OVERLAPS_SHOWN = 5;
+    private static final Comparator<RecordedEvent> SLOWEST_FIRST =
+            Comparator.comparing((RecordedEvent event) -> event.getDuration()).reversed();
+
+    private static class Group {
+        final LatencyRecorder latency = new LatencyRecorder();
+        long total;
+        long tasks;
+        long bytesRead;
+        long bytesWritten;
+
+        void add(RecordedEvent event) {
+            long nanos = event.getDuration().toNanos();
+            latency.record(nanos);
+            total += nanos;
+            tasks += event.getLong("taskCount");
+            bytesRead += event.getLong("bytesRead");
+            bytesWritten += event.getLong("bytesWritten");
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0 || args[0].startsWith("--")) {
+            System.err.println("Pemakaian: RecordingSummary <recording.jfr> [--jank=50] [--top=10]");
+            System.exit(1);
+            return;
+        }
+        Map<String, String> options = LoadDriver.parse(Arrays.copyOfRange(args, 1, args.length));
+        Duration jank = Duration.ofMillis(Long.parseLong(options.getOrDefault("jank", "50")));
+        int top = Integer.parseInt(options.getOrDefault("top", "10"));
+
+        Map<String, Group> byKey = new TreeMap<>();
+        Map<String, Group> storeByView = new TreeMap<>();
+        List<RecordedEvent> slowUi = new ArrayList<>();
+        List<RecordedEvent> context = new ArrayList<>();
+
+        Path path = Paths.get(args[0]);
+        try (RecordingFile recording = new RecordingFile(path)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                String type = event.getEventType().getName();
+                if (type.startsWith("com.taskmanager.")) {
+                    byKey.computeIfAbsent(type.substring(16) + "  " + key(event), k -> new Group()).add(event);
+                    if (type.equals(STORE)) {
+                        storeByView.computeIfAbsent(event.getString("view"), k -> new Group()).add(event);
+                    }
+                    if (UI.contains(type) && event.getDuration().compareTo(jank) >= 0) {
+                        slowUi.add(event);
+                    }
+                }
+                if (CONTEXT.contains(type)) {
+                    context.add(event);
+                }
+            }
+        }
+
+        System.out.printf("%-64s %8s %10s %9s %9s %9s %10s %11s %11s%n", "event", "count", "total ms",
+                "mean ms", "p99 ms", "max ms", "tasks", "bytes read", "bytes write");
+        byKey.forEach((name, group) -> System.out.printf("%-64s %8d %10.1f %9.2f %9.2f %9.2f %10d %11d %11d%n",
+                name, group.latency.count(), group.total / 1e6, group.latency.mean() / 1e6,
+                group.latency.percentile(0.99) / 1e6, group.latency.max() / 1e6,
+                group.tasks, group.bytesRead, group.bytesWritten));
+
+        System.out.println();
+        System.out.printf("%-24s %8s %10s %11s %11s%n", "store per view", "count", "total ms", "bytes read", "bytes write");
+        storeByView.forEach((view, group) -> System.out.printf("%-24s %8d %10.1f %11d %11d%n",
+                view, group.latency.count(), group.total / 1e6, group.bytesRead, group.bytesWritten));
+
+        System.out.println();
+        System.out.printf("Event UI >= %d ms: %d, %d paling lambat%n", jank.toMillis(), slowUi.size(), Math.min(top, slowUi.size()));
+        slowUi.sort(SLOWEST_FIRST);
+        context.sort(Comparator.comparing(RecordedEvent::getStartTime));
+        for (RecordedEvent event : slowUi.subList(0, Math.min(top, slowUi.size()))) {
+            System.out.printf("%n%s %8.1f ms  %s  view=%s tasks=%d read=%d write=%d%n", event.getStartTime(),
+                    event.getDuration().toNanos() / 1e6, event.getEventType().getName().substring(16) + " " + key(event),
+                    event.getString("view"), event.getLong("taskCount"), event.getLong("bytesRead"),
+                    event.getLong("bytesWritten"));
+            List<RecordedEvent> overlapping = overlapping(context, event);
+            for (RecordedEvent other : overlapping.subList(0, Math.min(OVERLAPS_SHOWN, overlapping.size()))) {
+                System.out.printf("    %8.1f ms  %-22s %s [%s]%n", other.getDuration().toNanos() / 1e6,
+                        other.getEventType().getName(), detail(other),
+                        other.getThread() == null ? "-" : other.getThread().getJavaName());
+            }
+            if (overlapping.size() > OVERLAPS_SHOWN) {
+                System.out.printf("    ... %d lainnya%n", overlapping.size() - OVERLAPS_SHOWN);
+            }
+        }
+    }
+
+    private static String key(RecordedEvent event) {
+        switch (event.getEventType().getName()) {
+            case STORE:
+                return event.getString("operation") + (event.getBoolean("failed") ? " (gagal)" : "");
+            case "com.taskmanager.FxmlLoad":
+                return event.getString("fxml");
+            case "com.taskmanager.SceneSwitch":
+                return event.getString("trigger") + " -> " + event.getString("target");
+            case "com.taskmanager.ViewRefresh":
+                return event.getString("mode");
+            default:
+                return "";
+        }
+    }
+
+    private static String detail(RecordedEvent event) {
+        switch (event.getEventType().getName()) {
+            case STORE:
+                return key(event) + " tasks=" + event.getLong("taskCount") + " read=" + event.getLong("bytesRead")
+                        + " write=" + event.getLong("bytesWritten");
+            case "jdk.FileRead":
+                return event.getString("path") + " " + event.getLong("bytesRead") + " bytes";
+            case "jdk.FileWrite":
+                return event.getString("path") + " " + event.getLong("bytesWritten") + " bytes";
+            case "jdk.FileForce":
+                return event.getString("path");
+            case "jdk.GarbageCollection":
+                return event.getString("name") + " " + event.getString("cause");
+            case "jdk.JavaMonitorEnter":
+                return event.getClass("monitorClass").getName();
+            default:
+                return "";
+        }
+    }
+
+    // Event yang rentang waktunya bersinggungan dengan target, yang paling lama dulu
+    private static List<RecordedEvent> overlapping(List<RecordedEvent> sorted, RecordedEvent target) {
+        Instant start = target.getStartTime();
+        Instant end = target.getEndTime();
+        List<RecordedEvent> result = new ArrayList<>();
+        for (RecordedEvent other : sorted) {
+            if (other.getStartTime().isAfter(end)) {
+                break;
+            }
+            if (!other.getEndTime().isBefore(start)) {
+                result.add(other);
+            }
+        }
+        result.sort(SLOWEST_FIRST);
+        return result;
+    }
+}
@@ -0,0 +1,110 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.utils.CSVHelper;
+import com.taskmanager.utils.TaskRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Operasi task lewat CSVHelper, sama seperti yang dipanggil controller. Satu fork per kombinasi
+// parameter karena TaskRepository statis dan store-nya dipilih sekali saat setup.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", Datasets.DATA_DIR_PROPERTY})
+public class TaskRepositoryBenchmark {
+    private static final String RENAMED_SUBJECT = "Basis Data (benchmark)";
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int rows;
+
+    @Param({"1", "100", "10000"})
+    public int users;
+
+    @Param({"memory", "csv", "binary"})
+    public String store;
+
+    // Instance yang dipegang repository, bukan data awal, supaya update mengenai task yang sama
+    private final List<Task> tasks = new ArrayList<>();
+    private int[] picks;
+    private int cursor;
+    private boolean renamed;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        TaskRepository.useStore(Datasets.taskStore(store, Datasets.tasks(rows, users)));
+        for (int i = 0; i < users; i++) {
+            tasks.addAll(CSVHelper.getTasksByUsername(Datasets.username(i)));
+        }
+        Random random = new Random(7);
+        picks = new int[4096];
+        for (int i = 0; i < picks.length; i++) {
+            picks[i] = random.nextInt(rows);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        CSVHelper.flush();
+    }
+
+    private int next() {
+        return picks[cursor++ & (picks.length - 1)];
+    }
+
+    @Benchmark
+    public List<Task> getTasksByUsername() {
+        return CSVHelper.getTasksByUsername(Datasets.username(next() % users));
+    }
+
+    @Benchmark
+    public void updateTask() {
+        Task task = tasks.get(next());
+        task.setProgress((task.getProgress() + 1) % 100);
+        CSVHelper.updateTask(task);
+    }
+
+    // Task yang dihapus langsung disimpan lagi supaya ukuran dataset tetap sama sepanjang iterasi
+    @Benchmark
+    public void deleteTask() {
+        Task task = tasks.get(next());
+        CSVHelper.deleteTask(task.getId());
+        CSVHelper.saveTask(task);
+    }
+
+    // Jalur lama: setiap task dengan subject itu dipindah satu per satu. Nama tujuan belum dipakai
+    // task lain, jadi bolak-balik memindahkan ~rows/7 task yang sama.
+    @Benchmark
+    public void updateTasksSubject() {
+        String from = renamed ? RENAMED_SUBJECT : Datasets.SUBJECTS[0];
+        String to = renamed ? Datasets.SUBJECTS[0] : RENAMED_SUBJECT;
+        CSVHelper.updateTasksSubject(from, to);
+        renamed = !renamed;
+    }
+
+    // Jalur SubjectHelper.updateSubject: hanya nama di dictionary + satu record store
+    @Benchmark
+    public void renameSubject() {
+        String from = renamed ? RENAMED_SUBJECT : Datasets.SUBJECTS[0];
+        String to = renamed ? Datasets.SUBJECTS[0] : RENAMED_SUBJECT;
+        CSVHelper.renameSubject(from, to);
+        renamed = !renamed;
+    }
+}
@@ -0,0 +1,53 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.model.User;
+import com.taskmanager.utils.CSVHelper;
+import com.taskmanager.utils.UserRepository;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = Datasets.DATA_DIR_PROPERTY)
+public class UserRepositoryBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int users;
+
+    @Param({"memory", "csv", "binary"})
+    public String store;
+
+    private String[] picks;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        UserRepository.useStore(Datasets.userStore(store, Datasets.users(users)));
+        Random random = new Random(7);
+        picks = new String[4096];
+        for (int i = 0; i < picks.length; i++) {
+            picks[i] = Datasets.username(random.nextInt(users));
+        }
+        CSVHelper.getUserByUsername(picks[0]);
+    }
+
+    @Benchmark
+    public User getUserByUsername() {
+        return CSVHelper.getUserByUsername(picks[cursor++ & (picks.length - 1)]);
+    }
+}
@@ -0,0 +1,143 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskPriority;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.model.User;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Menulis users.csv, tasks.csv dan subjects.txt dengan format yang sama seperti aplikasi.
+// Distribusi dibuat mirip pemakaian nyata: jumlah task per user dan panjang deskripsi eksponensial,
+// subject mengikuti Zipf (beberapa mata kuliah dipakai jauh lebih sering), sebagian task tanpa
+// deadline atau sudah lewat.
+class WorkloadGenerator {
+    private static final String[] BASE_SUBJECTS = Datasets.SUBJECTS;
+    private static final String[] WORDS = {
+            "tugas", "laporan", "praktikum", "kuis", "ujian", "bab", "normalisasi", "query", "graf",
+            "pohon", "rekursi", "proses", "thread", "matriks", "integral", "presentasi", "makalah",
+            "revisi", "diagram", "implementasi", "analisis", "ringkasan", "latihan", "soal", "modul"
+    };
+
+    int users = 100;
+    double tasksPerUser = 50;
+    int subjects = BASE_SUBJECTS.length;
+    double subjectSkew = 1.0; // eksponen Zipf, 0 = rata
+    double noDeadline = 0.3;
+    double overdue = 0.15;
+    int deadlineDays = 30;
+    double descriptionWords = 20;
+    long seed = 42;
+
+    private double[] subjectWeights;
+
+    static String password(int user) {
+        return "password" + user;
+    }
+
+    List<String> subjectNames() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < subjects; i++) {
+            names.add(i < BASE_SUBJECTS.length ? BASE_SUBJECTS[i] : "Mata Kuliah " + (i + 1));
+        }
+        return names;
+    }
+
+    // Mengembalikan jumlah task yang ditulis
+    long generate(Path dataDir) throws IOException {
+        Files.createDirectories(dataDir);
+        for (String stale : new String[]{"tasks.log", "users.log", "tasks.idx", "tasks.bin", "users.bin",
+                "tasks.bin.log", "users.bin.log"}) {
+            Files.deleteIfExists(dataDir.resolve(stale));
+        }
+        Random random = new Random(seed);
+        List<String> subjectNames = subjectNames();
+        subjectWeights = new double[subjectNames.size()];
+        double total = 0;
+        for (int i = 0; i < subjectWeights.length; i++) {
+            total += 1 / Math.pow(i + 1, subjectSkew);
+            subjectWeights[i] = total;
+        }
+
+        Files.write(dataDir.resolve("subjects.txt"), subjectNames, StandardCharsets.UTF_8);
+        try (BufferedWriter out = Files.newBufferedWriter(dataDir.resolve("users.csv"), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < users; i++) {
+                out.write(new User(Datasets.username(i), password(i), Datasets.username(i) + "@example.com").toCSV());
+                out.newLine();
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        long written = 0;
+        try (BufferedWriter out = Files.newBufferedWriter(dataDir.resolve("tasks.csv"), StandardCharsets.UTF_8)) {
+            for (int u = 0; u < users; u++) {
+                int count = exponential(random, tasksPerUser);
+                for (int i = 0; i < count; i++) {
+                    out.write(task(random, subjectNames, Datasets.username(u), now).toCSV());
+                    out.newLine();
+                    written++;
+                }
+            }
+        }
+        return written;
+    }
+
+    Task task(Random random, List<String> subjectNames, String username, LocalDateTime now) {
+        String deadline;
+        double roll = random.nextDouble();
+        if (roll < noDeadline) {
+            deadline = "";
+        } else if (roll < noDeadline + overdue) {
+            deadline = now.minusMinutes(1 + random.nextInt(deadlineDays * 24 * 60)).toString();
+        } else {
+            deadline = now.plusMinutes(1 + random.nextInt(deadlineDays * 24 * 60)).toString();
+        }
+
+        Task task = new Task(sentence(random, 2 + random.nextInt(4)),
+                sentence(random, exponential(random, descriptionWords)),
+                subjectNames.get(subject(random)),
+                TaskPriority.values()[random.nextInt(TaskPriority.values().length)].label(),
+                username, deadline);
+        TaskStatus status = TaskStatus.values()[random.nextInt(TaskStatus.values().length)];
+        task.setStatus(status);
+        task.setProgress(status == TaskStatus.DONE ? 100 : status == TaskStatus.IN_PROGRESS ? 10 + random.nextInt(80) : 0);
+        return task;
+    }
+
+    private int subject(Random random) {
+        double target = random.nextDouble() * subjectWeights[subjectWeights.length - 1];
+        int low = 0;
+        int high = subjectWeights.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (subjectWeights[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int exponential(Random random, double mean) {
+        return (int) Math.round(-mean * Math.log(1 - random.nextDouble()));
+    }
+
+    static String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
@@ -2,6 +2,8 @@
 package com.taskmanager;
 
 import com.taskmanager.utils.CSVHelper;
+import com.taskmanager.utils.FxmlLoadEvent;
+import com.taskmanager.utils.Metrics;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -19,8 +21,9 @@ public class Main extends Application {
         CSVHelper.initializeFiles();
 
         try {
+            Metrics.setView("/view/Login.fxml");
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/view/Login.fxml"));
-            Parent root = loader.load();
+            Parent root = FxmlLoadEvent.load(loader, "/view/Login.fxml");
 
             Scene scene = new Scene(root, 1000, 650);
             scene.setFill(javafx.scene.paint.Color.web("#13141f"));
@@ -40,6 +43,11 @@ public class Main extends Application {
         }
     }
 
+    @Override
+    public void stop() {
+        CSVHelper.flush();
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
@@ -0,0 +1,72 @@
+package com.taskmanager.component;
+
+import com.taskmanager.model.Task;
+import javafx.animation.KeyFrame;
+import javafx.animation.PauseTransition;
+import javafx.animation.Timeline;
+import javafx.scene.control.Label;
+import javafx.util.Duration;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+// Satu timer untuk semua label "5h left": berdetak tiap pergantian menit dan memperbarui
+// semua label yang masih tampil dalam satu putaran. Label yang kartunya sudah dibuang
+// ikut hilang dari map karena disimpan sebagai weak key.
+public class CountdownClock {
+    private static final long MINUTE_MILLIS = 60_000L;
+    private static final String WARNING_STYLE = "deadline-warning";
+
+    private static final Map<Label, Task> labels = new WeakHashMap<>();
+    private static boolean started = false;
+
+    // Harus dipanggil dari JavaFX thread
+    public static void bind(Label label, Task task) {
+        labels.put(label, task);
+        update(label, task, System.currentTimeMillis());
+        start();
+    }
+
+    public static void unbind(Label label) {
+        labels.remove(label);
+    }
+
+    private static void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+
+        Timeline ticker = new Timeline(new KeyFrame(Duration.minutes(1), e -> tick()));
+        ticker.setCycleCount(Timeline.INDEFINITE);
+
+        // Mulai tepat di pergantian menit supaya label berubah bersamaan dengan jam sistem
+        long untilNextMinute = MINUTE_MILLIS - System.currentTimeMillis() % MINUTE_MILLIS;
+        PauseTransition align = new PauseTransition(Duration.millis(untilNextMinute));
+        align.setOnFinished(e -> {
+            tick();
+            ticker.play();
+        });
+        align.play();
+    }
+
+    private static void tick() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<Label, Task> entry : labels.entrySet()) {
+            Label label = entry.getKey();
+            if (label.getScene() != null) {
+                update(label, entry.getValue(), now);
+            }
+        }
+    }
+
+    private static void update(Label label, Task task, long now) {
+        label.setText("🕒 " + task.getTimeRemaining(now));
+        if (task.isOverdue(now)) {
+            if (!label.getStyleClass().contains(WARNING_STYLE)) {
+                label.getStyleClass().add(WARNING_STYLE);
+            }
+        } else {
+            label.getStyleClass().remove(WARNING_STYLE);
+        }
+    }
+}
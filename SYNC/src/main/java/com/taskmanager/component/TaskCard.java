@@ -14,17 +14,29 @@ import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 
+// Node kartu dibuat sekali lalu dipakai ulang oleh TaskCardCell: setTask hanya mengganti isi label
 public class TaskCard extends VBox {
     private Task task;
     private TasksViewController controller;
 
-    public TaskCard(Task task, TasksViewController controller) {
-        this.task = task;
+    private final Label titleLabel = new Label();
+    private final Label priorityLabel = new Label();
+    private final Label descLabel = new Label();
+    private final Label deadlineLabel = new Label();
+    private final ProgressBar progressBar = new ProgressBar();
+    private String priorityStyle;
+
+    public TaskCard(TasksViewController controller) {
         this.controller = controller;
         setupCard();
         setupDragEvents(); // Aktifkan Drag
     }
 
+    public TaskCard(Task task, TasksViewController controller) {
+        this(controller);
+        setTask(task);
+    }
+
     private void setupCard() {
         this.setPadding(new Insets(15));
         this.setSpacing(10);
@@ -32,30 +44,20 @@ public class TaskCard extends VBox {
         this.setPrefWidth(250); // Ukuran kartu
 
         HBox header = new HBox(10);
-        Label titleLabel = new Label(task.getTitle());
         titleLabel.getStyleClass().add("task-title");
         titleLabel.setWrapText(true);
 
         Region spacer = new Region();
         HBox.setHgrow(spacer, Priority.ALWAYS);
 
-        Label priorityLabel = new Label(task.getPriority().toUpperCase());
-        priorityLabel.getStyleClass().addAll("priority-badge", "priority-" + task.getPriority().toUpperCase());
+        priorityLabel.getStyleClass().add("priority-badge");
 
         header.getChildren().addAll(titleLabel, spacer, priorityLabel);
 
-        String descText = task.getDescription();
-        if (descText.length() > 50)
-            descText = descText.substring(0, 50) + "...";
-        Label descLabel = new Label(descText);
         descLabel.getStyleClass().add("subtitle");
         descLabel.setWrapText(true);
 
-        Label deadlineLabel = new Label("🕒 " + task.getTimeRemaining());
         deadlineLabel.getStyleClass().add("deadline-badge");
-        if (task.getTimeRemaining().contains("OVERDUE")) {
-            deadlineLabel.getStyleClass().add("deadline-warning");
-        }
 
         HBox actions = new HBox(8);
         Button editBtn = new Button("Edit");
@@ -71,21 +73,54 @@ public class TaskCard extends VBox {
 
         actions.getChildren().addAll(deadlineLabel, actionSpacer, editBtn, deleteBtn);
 
-        ProgressBar progressBar = new ProgressBar(task.getProgress() / 100.0);
         progressBar.setMaxWidth(Double.MAX_VALUE);
 
-        String progressColor = switch (task.getPriority().toUpperCase()) {
-            case "HIGH" -> "#f38ba8"; // Neon Pink
-            case "MEDIUM" -> "#cba6f7"; // Neon Purple
+        this.getChildren().addAll(header, descLabel, progressBar, actions);
+    }
+
+    public void setTask(Task task) {
+        this.task = task;
+        titleLabel.setText(task.getTitle());
+
+        String priority = task.getPriority().name();
+        priorityLabel.setText(priority);
+        if (priorityStyle != null) {
+            priorityLabel.getStyleClass().remove(priorityStyle);
+        }
+        priorityStyle = "priority-" + priority;
+        priorityLabel.getStyleClass().add(priorityStyle);
+
+        String descText = task.getDescription();
+        if (descText.length() > 50)
+            descText = descText.substring(0, 50) + "...";
+        descLabel.setText(descText);
+
+        CountdownClock.bind(deadlineLabel, task);
+
+        progressBar.setProgress(task.getProgress() / 100.0);
+        String progressColor = switch (task.getPriority()) {
+            case HIGH -> "#f38ba8"; // Neon Pink
+            case MEDIUM -> "#cba6f7"; // Neon Purple
             default -> "#89b4fa"; // Neon Blue
         };
         progressBar.setStyle("-fx-accent: " + progressColor + "; -fx-pref-height: 5px;");
+    }
 
-        this.getChildren().addAll(header, descLabel, progressBar, actions);
+    // Kartu yang sedang tidak menampilkan task (sel kosong) tidak perlu ikut di-update CountdownClock
+    public void clearTask() {
+        this.task = null;
+        CountdownClock.unbind(deadlineLabel);
+    }
+
+    public Task getTask() {
+        return task;
     }
 
     private void setupDragEvents() {
         this.setOnDragDetected(event -> {
+            if (task == null) {
+                return;
+            }
 
             Dragboard db = this.startDragAndDrop(TransferMode.MOVE);
 
@@ -0,0 +1,39 @@
+package com.taskmanager.component;
+
+import com.taskmanager.controller.TasksViewController;
+import com.taskmanager.model.Task;
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.ListCell;
+
+// ListView hanya membuat sel sebanyak yang terlihat, lalu memakai ulang sel (dan TaskCard-nya)
+// untuk task lain saat di-scroll atau di-refresh
+public class TaskCardCell extends ListCell<Task> {
+    private final TaskCard card;
+
+    public TaskCardCell(TasksViewController controller) {
+        this.card = new TaskCard(controller);
+        setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+        // Lebar sel mengikuti ListView, bukan lebar kartu, supaya tidak muncul scrollbar horizontal
+        setPrefWidth(0);
+        card.prefWidthProperty().bind(widthProperty());
+        getStyleClass().add("task-cell");
+    }
+
+    // Task di-edit langsung (instance yang sama), jadi kesamaan referensi tidak berarti isinya sama
+    @Override
+    protected boolean isItemChanged(Task oldItem, Task newItem) {
+        return true;
+    }
+
+    @Override
+    protected void updateItem(Task task, boolean empty) {
+        super.updateItem(task, empty);
+        if (empty || task == null) {
+            card.clearTask();
+            setGraphic(null);
+        } else {
+            card.setTask(task);
+            setGraphic(card);
+        }
+    }
+}
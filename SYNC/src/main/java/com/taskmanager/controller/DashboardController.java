@@ -1,7 +1,18 @@
 package com.taskmanager.controller;
 
 import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskPriority;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.utils.AsyncStore;
 import com.taskmanager.utils.CSVHelper;
+import com.taskmanager.utils.ChangeBus;
+import com.taskmanager.utils.FxmlLoadEvent;
+import com.taskmanager.utils.Metrics;
+import com.taskmanager.utils.ReminderEvent;
+import com.taskmanager.utils.ReminderScheduler;
+import com.taskmanager.utils.SceneSwitchEvent;
+import com.taskmanager.utils.TaskEvent;
+import com.taskmanager.utils.TaskStats;
 import javafx.animation.FadeTransition;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
@@ -25,11 +36,13 @@ import javafx.scene.layout.VBox;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 import javafx.util.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.Consumer;
 
 public class DashboardController {
 
@@ -88,6 +101,12 @@ public class DashboardController {
     private boolean isSidebarCollapsed = false;
     private static final double SIDEBAR_EXPANDED_WIDTH = 260;
     private static final double SIDEBAR_COLLAPSED_WIDTH = 70;
+    private static final long URGENT_WINDOW_MILLIS = ReminderScheduler.DUE_SOON_WINDOW_MILLIS;
+
+    // Badge dihitung dari indeks deadline di repository: diperbarui saat task berubah dan saat
+    // ReminderScheduler mengumumkan deadline yang masuk jendela 24 jam atau lewat
+    private final Consumer<TaskEvent> taskListener = ChangeBus.onFx(this::onTaskEvent);
+    private final Consumer<ReminderEvent> reminderListener = ChangeBus.onFx(this::onReminderEvent);
 
     @FXML
     public void initialize() {
@@ -127,14 +146,33 @@ public class DashboardController {
                 btnLogout.setContentDisplay(contentDisplay);
         }
 
+        ChangeBus.TASKS.subscribe(taskListener);
+        ChangeBus.REMINDERS.subscribe(reminderListener);
         loadDashboardData();
-        updateNotificationBadge();
     }
 
-    private void updateNotificationBadge() {
-        List<Task> urgentTasks = getUrgentTasks();
-        int count = urgentTasks.size();
+    private void onTaskEvent(TaskEvent event) {
+        String username = LoginController.currentUsername;
+        if (event.task().getCreatedBy().equals(username)) {
+            loadTaskStats(username);
+            loadNotificationBadge(username);
+        }
+    }
 
+    private void onReminderEvent(ReminderEvent event) {
+        String username = LoginController.currentUsername;
+        if (event.task().getCreatedBy().equals(username)) {
+            loadNotificationBadge(username);
+        }
+    }
+
+    private void loadNotificationBadge(String username) {
+        long urgentBefore = System.currentTimeMillis() + URGENT_WINDOW_MILLIS;
+        AsyncStore.onFx(AsyncStore.call(() -> CSVHelper.countTasksDueBefore(username, urgentBefore)),
+                this::showNotificationBadge);
+    }
+
+    private void showNotificationBadge(int count) {
         if (count > 0) {
             notificationBadge.setText(String.valueOf(count));
             notificationBadge.setVisible(true);
@@ -143,34 +181,17 @@ public class DashboardController {
         }
     }
 
-    private List<Task> getUrgentTasks() {
-        List<Task> urgent = new ArrayList<>();
-        List<Task> allTasks = CSVHelper.getTasksByUsername(LoginController.currentUsername);
-        LocalDateTime now = LocalDateTime.now();
-
-        for (Task task : allTasks) {
-            if ("done".equals(task.getStatus()))
-                continue;
-
-            if (task.getDeadline() != null && !task.getDeadline().isEmpty()) {
-                try {
-                    LocalDateTime deadline = LocalDateTime.parse(task.getDeadline());
-
-                    if (deadline.isBefore(now.plusHours(24))) {
-                        urgent.add(task);
-                    }
-                } catch (Exception e) {
-
-                }
-            }
-        }
-        return urgent;
-    }
-
     @FXML
     private void handleNotification() {
-        List<Task> urgentTasks = getUrgentTasks();
+        String username = LoginController.currentUsername;
+        long urgentBefore = System.currentTimeMillis() + URGENT_WINDOW_MILLIS;
+        AsyncStore.onFx(AsyncStore.call(() -> CSVHelper.getTasksDueBefore(username, urgentBefore)), urgentTasks -> {
+            showNotificationBadge(urgentTasks.size());
+            showUrgentTasks(urgentTasks);
+        });
+    }
 
+    private void showUrgentTasks(List<Task> urgentTasks) {
         if (urgentTasks.isEmpty()) {
 
             notificationMessage
@@ -199,6 +220,7 @@ public class DashboardController {
 
             VBox tasksContainer = new VBox(10);
             tasksContainer.setStyle("-fx-background-color: transparent;");
+            long now = System.currentTimeMillis();
 
             for (Task task : urgentTasks) {
                 HBox taskRow = new HBox(15);
@@ -225,37 +247,35 @@ public class DashboardController {
                 VBox deadlineBox = new VBox(3);
                 deadlineBox.setAlignment(Pos.CENTER_RIGHT);
 
-                if (task.getDeadline() != null && !task.getDeadline().isEmpty()) {
-                    try {
-                        LocalDateTime deadline = LocalDateTime.parse(task.getDeadline());
-                        LocalDateTime now = LocalDateTime.now();
-                        String formattedDeadline = deadline.format(dayFormatter);
+                if (task.hasDeadline()) {
+                    LocalDateTime deadline = LocalDateTime.ofInstant(
+                            Instant.ofEpochMilli(task.getDeadlineMillis()), ZoneId.systemDefault());
+                    String formattedDeadline = deadline.format(dayFormatter);
 
-                        Label deadlineLabel = new Label(formattedDeadline);
+                    Label deadlineLabel = new Label(formattedDeadline);
 
-                        boolean isOverdue = now.isAfter(deadline);
+                    boolean isOverdue = task.isOverdue(now);
 
-                        if (isOverdue) {
+                    if (isOverdue) {
 
-                            deadlineLabel
-                                    .setStyle("-fx-font-size: 13px; -fx-text-fill: #e74c3c; -fx-font-weight: bold;");
+                        deadlineLabel
+                                .setStyle("-fx-font-size: 13px; -fx-text-fill: #e74c3c; -fx-font-weight: bold;");
 
-                            Label overdueLabel = new Label("OVERDUE");
-                            overdueLabel
-                                    .setStyle("-fx-font-size: 11px; -fx-text-fill: #e74c3c; -fx-font-weight: bold;");
+                        Label overdueLabel = new Label("OVERDUE");
+                        overdueLabel
+                                .setStyle("-fx-font-size: 11px; -fx-text-fill: #e74c3c; -fx-font-weight: bold;");
 
-                            deadlineBox.getChildren().addAll(deadlineLabel, overdueLabel);
-                        } else {
+                        deadlineBox.getChildren().addAll(deadlineLabel, overdueLabel);
+                    } else {
 
-                            deadlineLabel
-                                    .setStyle("-fx-font-size: 13px; -fx-text-fill: #2ecc71; -fx-font-weight: bold;");
-                            deadlineBox.getChildren().add(deadlineLabel);
-                        }
-                    } catch (Exception e) {
-                        Label deadlineLabel = new Label(task.getDeadline());
-                        deadlineLabel.setStyle("-fx-font-size: 13px; -fx-text-fill: #2ecc71; -fx-font-weight: bold;");
+                        deadlineLabel
+                                .setStyle("-fx-font-size: 13px; -fx-text-fill: #2ecc71; -fx-font-weight: bold;");
                         deadlineBox.getChildren().add(deadlineLabel);
                     }
+                } else if (task.getDeadline() != null && !task.getDeadline().isEmpty()) {
+                    Label deadlineLabel = new Label(task.getDeadline());
+                    deadlineLabel.setStyle("-fx-font-size: 13px; -fx-text-fill: #2ecc71; -fx-font-weight: bold;");
+                    deadlineBox.getChildren().add(deadlineLabel);
                 }
 
                 taskRow.getChildren().addAll(icon, taskInfo, deadlineBox);
@@ -332,55 +352,55 @@ public class DashboardController {
     }
 
     private void loadDashboardData() {
-        List<Task> tasks = CSVHelper.getTasksByUsername(LoginController.currentUsername);
-
-        int draft = 0;
-        int progress = 0;
-        int done = 0;
-
-        int highPriority = 0;
-        int mediumPriority = 0;
-        int lowPriority = 0;
-
-        for (Task t : tasks) {
-            String status = t.getStatus() != null ? t.getStatus() : "draft";
-            switch (status) {
-                case "draft" -> draft++;
-                case "in_progress" -> progress++;
-                case "done" -> done++;
-            }
+        String username = LoginController.currentUsername;
+        loadTaskStats(username);
+        loadNotificationBadge(username);
+    }
 
-            String priority = t.getPriority() != null ? t.getPriority().toLowerCase() : "low";
-            switch (priority) {
-                case "high" -> highPriority++;
-                case "medium" -> mediumPriority++;
-                case "low" -> lowPriority++;
-            }
-        }
+    // Angka dashboard diambil dari statistik yang dijaga TaskRepository, bukan dihitung ulang di sini
+    private void loadTaskStats(String username) {
+        AsyncStore.onFx(AsyncStore.call(() -> CSVHelper.getTaskStats(username)), this::showDashboardData);
+    }
 
-        totalTasksLabel.setText(String.valueOf(tasks.size()));
-        highPriorityLabel.setText(String.valueOf(highPriority));
-        mediumPriorityLabel.setText(String.valueOf(mediumPriority));
-        lowPriorityLabel.setText(String.valueOf(lowPriority));
+    private void showDashboardData(TaskStats stats) {
+        int draft = stats.getCount(TaskStatus.DRAFT);
+        int progress = stats.getCount(TaskStatus.IN_PROGRESS);
+        int done = stats.getCount(TaskStatus.DONE);
+
+        totalTasksLabel.setText(String.valueOf(stats.getTotal()));
+        highPriorityLabel.setText(String.valueOf(stats.getCount(TaskPriority.HIGH)));
+        mediumPriorityLabel.setText(String.valueOf(stats.getCount(TaskPriority.MEDIUM)));
+        lowPriorityLabel.setText(String.valueOf(stats.getCount(TaskPriority.LOW)));
 
-        int total = tasks.size();
-        int completionRate = total > 0 ? (int) Math.round(((double) done / total) * 100) : 0;
         if (completionRateLabel != null) {
-            completionRateLabel.setText(completionRate + "%");
+            completionRateLabel.setText(stats.getCompletionRate() + "%");
+        }
+
+        // Chart dibuat sekali, perubahan berikutnya cukup mengganti nilainya
+        if (statusPieChart.getData().size() != 3) {
+            statusPieChart.setData(FXCollections.observableArrayList(
+                    new PieChart.Data("Draft", draft),
+                    new PieChart.Data("In Progress", progress),
+                    new PieChart.Data("Done", done)));
+        } else {
+            statusPieChart.getData().get(0).setPieValue(draft);
+            statusPieChart.getData().get(1).setPieValue(progress);
+            statusPieChart.getData().get(2).setPieValue(done);
         }
 
-        statusPieChart.setData(FXCollections.observableArrayList(
-                new PieChart.Data("Draft", draft),
-                new PieChart.Data("In Progress", progress),
-                new PieChart.Data("Done", done)));
-
-        productivityChart.getData().clear();
-        XYChart.Series<String, Number> series = new XYChart.Series<>();
-        series.setName("Tasks");
-        series.getData().add(new XYChart.Data<>("Draft", draft));
-        series.getData().add(new XYChart.Data<>("In Progress", progress));
-        series.getData().add(new XYChart.Data<>("Done", done));
-        productivityChart.getData().add(series);
+        if (productivityChart.getData().isEmpty()) {
+            XYChart.Series<String, Number> series = new XYChart.Series<>();
+            series.setName("Tasks");
+            series.getData().add(new XYChart.Data<>("Draft", draft));
+            series.getData().add(new XYChart.Data<>("In Progress", progress));
+            series.getData().add(new XYChart.Data<>("Done", done));
+            productivityChart.getData().add(series);
+        } else {
+            List<XYChart.Data<String, Number>> bars = productivityChart.getData().get(0).getData();
+            bars.get(0).setYValue(draft);
+            bars.get(1).setYValue(progress);
+            bars.get(2).setYValue(done);
+        }
     }
 
     @FXML
@@ -398,22 +418,33 @@ public class DashboardController {
         animateAndChangeScene("/view/Login.fxml");
     }
 
+    // Halaman ini sudah diganti, jadi listener-nya tidak perlu lagi menerima event
+    private void unsubscribe() {
+        ChangeBus.TASKS.unsubscribe(taskListener);
+        ChangeBus.REMINDERS.unsubscribe(reminderListener);
+    }
+
     private void animateAndChangeScene(String fxmlPath) {
+        SceneSwitchEvent event = SceneSwitchEvent.start("animateAndChangeScene", fxmlPath);
         FadeTransition fadeOut = new FadeTransition(Duration.millis(250), rootPane);
         fadeOut.setFromValue(1);
         fadeOut.setToValue(0);
 
         fadeOut.setOnFinished(e -> {
             try {
+                Metrics.setView(fxmlPath);
                 FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
-                Parent nextRoot = loader.load();
+                Parent nextRoot = FxmlLoadEvent.load(loader, fxmlPath);
 
                 Stage stage = (Stage) rootPane.getScene().getWindow();
                 stage.getScene().setRoot(nextRoot);
+                unsubscribe();
 
             } catch (Exception ex) {
                 ex.printStackTrace();
                 System.err.println("Failed to load page: " + fxmlPath);
+            } finally {
+                event.finish();
             }
         });
 
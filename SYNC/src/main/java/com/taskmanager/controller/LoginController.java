@@ -1,7 +1,10 @@
 package com.taskmanager.controller;
 
-import com.taskmanager.model.User;
+import com.taskmanager.utils.AsyncStore;
 import com.taskmanager.utils.CSVHelper;
+import com.taskmanager.utils.FxmlLoadEvent;
+import com.taskmanager.utils.Metrics;
+import com.taskmanager.utils.SceneSwitchEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -62,9 +65,7 @@ public class LoginController {
 
         loginButton.setDisable(true);
 
-        try {
-
-            User user = CSVHelper.getUserByUsername(username);
+        AsyncStore.onFx(AsyncStore.call(() -> CSVHelper.getUserByUsername(username)), user -> {
 
             if (user == null) {
                 showError("User not found. Please check your username.");
@@ -83,18 +84,20 @@ public class LoginController {
             currentUsername = username;
             openDashboard();
 
-        } catch (Exception e) {
+        }, e -> {
             showError("An error occurred. Please try again.");
             e.printStackTrace();
             loginButton.setDisable(false);
-        }
+        });
     }
 
     @FXML
     private void handleRegister() {
+        SceneSwitchEvent event = SceneSwitchEvent.start("handleRegister", "/view/Register.fxml");
         try {
+            Metrics.setView("/view/Register.fxml");
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/view/Register.fxml"));
-            Parent root = loader.load();
+            Parent root = FxmlLoadEvent.load(loader, "/view/Register.fxml");
 
             Stage stage = (Stage) loginButton.getScene().getWindow();
             Scene scene = new Scene(root, 1000, 650);
@@ -106,13 +109,17 @@ public class LoginController {
         } catch (Exception e) {
             e.printStackTrace();
             showError("Failed to open registration page");
+        } finally {
+            event.finish();
         }
     }
 
     private void openDashboard() {
+        SceneSwitchEvent event = SceneSwitchEvent.start("openDashboard", "/view/Dashboard.fxml");
         try {
+            Metrics.setView("/view/Dashboard.fxml");
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/view/Dashboard.fxml"));
-            Parent root = loader.load();
+            Parent root = FxmlLoadEvent.load(loader, "/view/Dashboard.fxml");
 
             Stage stage = (Stage) loginButton.getScene().getWindow();
             Scene scene = new Scene(root, 1400, 800);
@@ -126,6 +133,8 @@ public class LoginController {
             e.printStackTrace();
             showError("Failed to open dashboard");
             loginButton.setDisable(false);
+        } finally {
+            event.finish();
         }
     }
 
@@ -1,8 +1,16 @@
 package com.taskmanager.controller;
 
-import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
 import com.taskmanager.model.User;
+import com.taskmanager.utils.AsyncStore;
 import com.taskmanager.utils.CSVHelper;
+import com.taskmanager.utils.ChangeBus;
+import com.taskmanager.utils.FxmlLoadEvent;
+import com.taskmanager.utils.Metrics;
+import com.taskmanager.utils.SceneSwitchEvent;
+import com.taskmanager.utils.TaskEvent;
+import com.taskmanager.utils.TaskStats;
+import com.taskmanager.utils.UserEvent;
 import javafx.animation.FadeTransition;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
@@ -20,7 +28,7 @@ import javafx.util.Duration;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.stage.Modality;
 import javafx.stage.StageStyle;
@@ -96,6 +104,10 @@ public class ProfileController {
 
     private User currentUser;
 
+    // Statistik dijaga TaskRepository, ChangeBus hanya memberi tahu kapan perlu diambil lagi
+    private final Consumer<TaskEvent> taskListener = ChangeBus.onFx(this::onTaskEvent);
+    private final Consumer<UserEvent> userListener = ChangeBus.onFx(this::onUserEvent);
+
     @FXML
     public void initialize() {
 
@@ -105,6 +117,8 @@ public class ProfileController {
         fadeIn.setToValue(1);
         fadeIn.play();
 
+        ChangeBus.TASKS.subscribe(taskListener);
+        ChangeBus.USERS.subscribe(userListener);
         loadUserData();
         loadUserStatistics();
 
@@ -182,49 +196,62 @@ public class ProfileController {
             return;
         }
 
-        currentUser = CSVHelper.getUserByUsername(username);
-        if (currentUser == null) {
-            showError("Failed to load user data", emailStatusLabel);
-            return;
-        }
+        AsyncStore.onFx(AsyncStore.call(() -> CSVHelper.getUserByUsername(username)), user -> {
+            currentUser = user;
+            if (currentUser == null) {
+                showError("Failed to load user data", emailStatusLabel);
+                return;
+            }
 
-        welcomeLabel.setText("Hi, " + username);
-        usernameLabel.setText(username);
-        emailField.setText(currentUser.getEmail());
-
-        try {
-            LocalDateTime dateTime = LocalDateTime.parse(currentUser.getCreatedAt(),
-                    DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-            String formattedDate = dateTime.format(DateTimeFormatter.ofPattern("MMMM dd, yyyy 'at' hh:mm a"));
-            createdAtLabel.setText(formattedDate);
-        } catch (Exception e) {
-            createdAtLabel.setText(currentUser.getCreatedAt());
-        }
+            welcomeLabel.setText("Hi, " + username);
+            usernameLabel.setText(username);
+            emailField.setText(currentUser.getEmail());
+
+            try {
+                LocalDateTime dateTime = LocalDateTime.parse(currentUser.getCreatedAt(),
+                        DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+                String formattedDate = dateTime.format(DateTimeFormatter.ofPattern("MMMM dd, yyyy 'at' hh:mm a"));
+                createdAtLabel.setText(formattedDate);
+            } catch (Exception e) {
+                createdAtLabel.setText(currentUser.getCreatedAt());
+            }
+        });
     }
 
     private void loadUserStatistics() {
-        List<Task> tasks = CSVHelper.getTasksByUsername(LoginController.currentUsername);
-
-        int total = tasks.size();
-        int completed = 0;
-        int inProgress = 0;
-
-        for (Task task : tasks) {
-            String status = task.getStatus() != null ? task.getStatus() : "draft";
-            if ("done".equals(status)) {
-                completed++;
-            } else if ("in_progress".equals(status)) {
-                inProgress++;
-            }
+        String username = LoginController.currentUsername;
+        AsyncStore.onFx(AsyncStore.call(() -> CSVHelper.getTaskStats(username)), this::showUserStatistics);
+    }
+
+    private void onTaskEvent(TaskEvent event) {
+        if (event.task().getCreatedBy().equals(LoginController.currentUsername)) {
+            loadUserStatistics();
         }
+    }
+
+    // Perubahan dari jendela lain; perubahan dari halaman ini sendiri sudah tampil
+    private void onUserEvent(UserEvent event) {
+        User user = event.user();
+        if (currentUser == null || !user.getUsername().equals(currentUser.getUsername())) {
+            return;
+        }
+        currentUser = user;
+        if (user.getEmail() != null && !user.getEmail().equals(emailField.getText().trim())) {
+            emailField.setText(user.getEmail());
+        }
+    }
 
-        totalTasksLabel.setText(String.valueOf(total));
-        completedTasksLabel.setText(String.valueOf(completed));
-        inProgressTasksLabel.setText(String.valueOf(inProgress));
+    private void showUserStatistics(TaskStats stats) {
+        totalTasksLabel.setText(String.valueOf(stats.getTotal()));
+        completedTasksLabel.setText(String.valueOf(stats.getCount(TaskStatus.DONE)));
+        inProgressTasksLabel.setText(String.valueOf(stats.getCount(TaskStatus.IN_PROGRESS)));
     }
 
     @FXML
     private void handleSaveProfile() {
+        if (currentUser == null)
+            return;
+
         String newEmail = emailField.getText().trim();
 
         if (newEmail.isEmpty()) {
@@ -237,18 +264,28 @@ public class ProfileController {
             return;
         }
 
+        String oldEmail = currentUser.getEmail();
         currentUser.setEmail(newEmail);
 
-        if (CSVHelper.updateUser(currentUser)) {
-            showSuccess("Profile updated successfully!", successLabel);
-            saveButton.setDisable(false);
-        } else {
-            showError("Failed to update profile", emailStatusLabel);
-        }
+        // Tampilkan sukses dulu, kembalikan email lama kalau penyimpanan gagal
+        showSuccess("Profile updated successfully!", successLabel);
+        saveButton.setDisable(false);
+
+        User user = currentUser;
+        AsyncStore.onFx(AsyncStore.call(() -> CSVHelper.updateUser(user)), updated -> {
+            if (!updated) {
+                user.setEmail(oldEmail);
+                successLabel.setVisible(false);
+                showError("Failed to update profile", emailStatusLabel);
+            }
+        });
     }
 
     @FXML
     private void handleChangePassword() {
+        if (currentUser == null)
+            return;
+
         String currentPassword = currentPasswordField.getText();
         String newPassword = newPasswordField.getText();
         String confirmPassword = confirmPasswordField.getText();
@@ -282,19 +319,26 @@ public class ProfileController {
             return;
         }
 
+        String oldHash = currentUser.getPasswordHash();
         currentUser.setPasswordHash(User.hashPassword(newPassword));
 
-        if (CSVHelper.updateUser(currentUser)) {
-
-            showModernSuccessDialog("Password Changed",
-                    "Your password has been successfully updated! Keep it safe. 🔒");
-
-            currentPasswordField.clear();
-            newPasswordField.clear();
-            confirmPasswordField.clear();
-        } else {
-            showError("Failed to change password", passwordErrorLabel);
-        }
+        changePasswordButton.setDisable(true);
+        User user = currentUser;
+        AsyncStore.onFx(AsyncStore.call(() -> CSVHelper.updateUser(user)), updated -> {
+            changePasswordButton.setDisable(false);
+            if (updated) {
+
+                showModernSuccessDialog("Password Changed",
+                        "Your password has been successfully updated! Keep it safe. 🔒");
+
+                currentPasswordField.clear();
+                newPasswordField.clear();
+                confirmPasswordField.clear();
+            } else {
+                user.setPasswordHash(oldHash);
+                showError("Failed to change password", passwordErrorLabel);
+            }
+        });
     }
 
     @FXML
@@ -313,22 +357,33 @@ public class ProfileController {
         animateAndChangeScene("/view/Login.fxml");
     }
 
+    // Halaman ini sudah diganti, jadi listener-nya tidak perlu lagi menerima event
+    private void unsubscribe() {
+        ChangeBus.TASKS.unsubscribe(taskListener);
+        ChangeBus.USERS.unsubscribe(userListener);
+    }
+
     private void animateAndChangeScene(String fxmlPath) {
+        SceneSwitchEvent event = SceneSwitchEvent.start("animateAndChangeScene", fxmlPath);
         FadeTransition fadeOut = new FadeTransition(Duration.millis(250), rootPane);
         fadeOut.setFromValue(1);
         fadeOut.setToValue(0);
 
         fadeOut.setOnFinished(e -> {
             try {
+                Metrics.setView(fxmlPath);
                 FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
-                Parent nextRoot = loader.load();
+                Parent nextRoot = FxmlLoadEvent.load(loader, fxmlPath);
 
                 Stage stage = (Stage) rootPane.getScene().getWindow();
                 stage.getScene().setRoot(nextRoot);
+                unsubscribe();
 
             } catch (Exception ex) {
                 ex.printStackTrace();
                 System.err.println("Failed to load page: " + fxmlPath);
+            } finally {
+                event.finish();
             }
         });
 
@@ -354,6 +409,9 @@ public class ProfileController {
     }
 
     private void validateCurrentPassword() {
+        if (currentUser == null)
+            return;
+
         String currentPassword = currentPasswordField.getText();
         if (!currentPassword.isEmpty() && !currentUser.verifyPassword(currentPassword)) {
             showPersistentError("Current password is incorrect", passwordErrorLabel);
@@ -1,7 +1,11 @@
 package com.taskmanager.controller;
 
 import com.taskmanager.model.User;
+import com.taskmanager.utils.AsyncStore;
 import com.taskmanager.utils.CSVHelper;
+import com.taskmanager.utils.FxmlLoadEvent;
+import com.taskmanager.utils.Metrics;
+import com.taskmanager.utils.SceneSwitchEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -19,6 +23,12 @@ import javafx.stage.StageStyle;
 import javafx.util.Duration;
 
 public class RegisterController {
+    // Hasil pendaftaran dari thread penyimpanan, diterjemahkan ke UI di thread FX
+    private enum RegisterResult {
+        CREATED,
+        USERNAME_TAKEN
+    }
+
     @FXML
     private TextField usernameField;
     @FXML
@@ -133,33 +143,40 @@ public class RegisterController {
 
         registerButton.setDisable(true);
 
-        try {
-
+        AsyncStore.onFx(AsyncStore.call(() -> {
             if (CSVHelper.userExists(username)) {
-                showError("Username already exists. Please choose another one.");
-                usernameField.requestFocus();
-                registerButton.setDisable(false);
-                return;
+                return RegisterResult.USERNAME_TAKEN;
             }
 
             User newUser = new User(username, password, email);
 
             CSVHelper.saveUser(newUser);
+            return RegisterResult.CREATED;
+        }), result -> {
+
+            if (result == RegisterResult.USERNAME_TAKEN) {
+                showError("Username already exists. Please choose another one.");
+                usernameField.requestFocus();
+                registerButton.setDisable(false);
+                return;
+            }
 
             showSuccessAndRedirect(username);
 
-        } catch (Exception e) {
+        }, e -> {
             showError("Registration failed. Please try again.");
             e.printStackTrace();
             registerButton.setDisable(false);
-        }
+        });
     }
 
     @FXML
     private void handleBackToLogin() {
+        SceneSwitchEvent event = SceneSwitchEvent.start("handleBackToLogin", "/view/Login.fxml");
         try {
+            Metrics.setView("/view/Login.fxml");
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/view/Login.fxml"));
-            Parent root = loader.load();
+            Parent root = FxmlLoadEvent.load(loader, "/view/Login.fxml");
 
             Stage stage = (Stage) registerButton.getScene().getWindow();
             Scene scene = new Scene(root, 1000, 650);
@@ -170,6 +187,8 @@ public class RegisterController {
 
         } catch (Exception e) {
             e.printStackTrace();
+        } finally {
+            event.finish();
         }
     }
 
@@ -179,8 +198,12 @@ public class RegisterController {
             showError("Username must be at least 3 characters");
         } else if (!username.matches("^[a-zA-Z0-9_]*$")) {
             showError("Username can only contain letters, numbers, and underscores");
-        } else if (CSVHelper.userExists(username)) {
-            showError("Username already taken");
+        } else if (!username.isEmpty()) {
+            AsyncStore.onFx(AsyncStore.call(() -> CSVHelper.userExists(username)), exists -> {
+                if (exists && username.equals(usernameField.getText().trim())) {
+                    showError("Username already taken");
+                }
+            });
         }
     }
 
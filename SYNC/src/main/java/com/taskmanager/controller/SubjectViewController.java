@@ -1,6 +1,8 @@
 package com.taskmanager.controller;
 
 import com.taskmanager.component.CustomAlertDialog;
+import com.taskmanager.utils.AsyncStore;
+import com.taskmanager.utils.FxmlLoadEvent;
 import com.taskmanager.utils.SubjectHelper;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -12,6 +14,8 @@ import javafx.scene.control.*;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
+import java.util.HashMap;
+import java.util.Map;
 
 public class SubjectViewController {
 
@@ -29,9 +33,18 @@ public class SubjectViewController {
     private Button btnClose;
 
     private ObservableList<String> subjects;
+    private Map<String, Integer> taskCounts = new HashMap<>();
 
     @FXML
     public void initialize() {
+        // Item tetap nama subject (dipakai edit/delete), jumlah task hanya ditampilkan
+        subjectListView.setCellFactory(list -> new ListCell<>() {
+            @Override
+            protected void updateItem(String item, boolean empty) {
+                super.updateItem(item, empty);
+                setText(empty || item == null ? null : item + " (" + taskCounts.getOrDefault(item, 0) + ")");
+            }
+        });
         loadSubjects();
 
         subjectListView.getSelectionModel().selectedItemProperty().addListener((obs, oldVal, newVal) -> {
@@ -49,8 +62,11 @@ public class SubjectViewController {
     }
 
     private void loadSubjects() {
-        subjects = FXCollections.observableArrayList(SubjectHelper.getAllSubjects());
-        subjectListView.setItems(subjects);
+        AsyncStore.onFx(AsyncStore.call(SubjectHelper::getSubjectCounts), counts -> {
+            taskCounts = counts;
+            subjects = FXCollections.observableArrayList(counts.keySet());
+            subjectListView.setItems(subjects);
+        });
     }
 
     @FXML
@@ -61,13 +77,15 @@ public class SubjectViewController {
             return;
         }
 
-        if (SubjectHelper.addSubject(newSubject)) {
-            loadSubjects();
-            subjectField.clear();
-            showAlert("Success", "Subject added successfully.");
-        } else {
-            showAlert("Error", "Subject already exists or invalid.");
-        }
+        AsyncStore.onFx(AsyncStore.call(() -> SubjectHelper.addSubject(newSubject)), added -> {
+            if (added) {
+                loadSubjects();
+                subjectField.clear();
+                showAlert("Success", "Subject added successfully.");
+            } else {
+                showAlert("Error", "Subject already exists or invalid.");
+            }
+        });
     }
 
     @FXML
@@ -81,7 +99,7 @@ public class SubjectViewController {
         try {
 
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/view/EditSubjectDialog.fxml"));
-            Parent root = loader.load();
+            Parent root = FxmlLoadEvent.load(loader, "/view/EditSubjectDialog.fxml");
 
             EditSubjectDialogController dialogController = loader.getController();
             dialogController.setSubjectName(selectedSubject);
@@ -107,13 +125,16 @@ public class SubjectViewController {
                     return;
                 }
 
-                if (SubjectHelper.updateSubject(selectedSubject, newName)) {
-                    loadSubjects();
-                    subjectField.clear();
-                    showAlert("Success", "Subject updated successfully.");
-                } else {
-                    showAlert("Error", "Failed to update subject. Subject name may already exist.");
-                }
+                AsyncStore.onFx(AsyncStore.call(() -> SubjectHelper.updateSubject(selectedSubject, newName)),
+                        updated -> {
+                            if (updated) {
+                                loadSubjects();
+                                subjectField.clear();
+                                showAlert("Success", "Subject updated successfully.");
+                            } else {
+                                showAlert("Error", "Failed to update subject. Subject name may already exist.");
+                            }
+                        });
             }
         } catch (Exception e) {
             e.printStackTrace();
@@ -131,13 +152,15 @@ public class SubjectViewController {
                 "Are you sure you want to delete '" + selectedSubject + "'?\nThis action cannot be undone.");
 
         if (confirmed) {
-            if (SubjectHelper.deleteSubject(selectedSubject)) {
-                loadSubjects();
-                subjectField.clear();
-                showAlert("Success", "Subject deleted successfully.");
-            } else {
-                showAlert("Error", "Failed to delete subject.");
-            }
+            AsyncStore.onFx(AsyncStore.call(() -> SubjectHelper.deleteSubject(selectedSubject)), deleted -> {
+                if (deleted) {
+                    loadSubjects();
+                    subjectField.clear();
+                    showAlert("Success", "Subject deleted successfully.");
+                } else {
+                    showAlert("Error", "Failed to delete subject.");
+                }
+            });
         }
     }
 
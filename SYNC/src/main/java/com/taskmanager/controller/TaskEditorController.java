@@ -1,6 +1,9 @@
 package com.taskmanager.controller;
 
 import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskPriority;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.utils.AsyncStore;
 import com.taskmanager.utils.CSVHelper;
 import com.taskmanager.utils.SubjectHelper;
 import javafx.fxml.FXML;
@@ -37,7 +40,6 @@ public class TaskEditorController {
     @FXML
     private Label errorLabel;
 
-    private TasksViewController tasksViewController;
     private Stage dialogStage;
     private Task editingTask;
     private boolean isEditMode = false;
@@ -46,17 +48,15 @@ public class TaskEditorController {
         this.dialogStage = dialogStage;
     }
 
-    public void setTasksViewController(TasksViewController controller) {
-        this.tasksViewController = controller;
-    }
-
     @FXML
     public void initialize() {
 
-        subjectComboBox.getItems().setAll(SubjectHelper.getAllSubjects());
-        if (!subjectComboBox.getItems().isEmpty()) {
-            subjectComboBox.setValue(subjectComboBox.getItems().get(0));
-        }
+        AsyncStore.onFx(AsyncStore.call(SubjectHelper::getAllSubjects), subjects -> {
+            subjectComboBox.getItems().setAll(subjects);
+            if (subjectComboBox.getValue() == null && !subjectComboBox.getItems().isEmpty()) {
+                subjectComboBox.setValue(subjectComboBox.getItems().get(0));
+            }
+        });
 
         priorityComboBox.getItems().addAll("High", "Medium", "Low");
         priorityComboBox.setValue("Medium");
@@ -92,8 +92,8 @@ public class TaskEditorController {
         titleField.setText(task.getTitle());
         descriptionArea.setText(task.getDescription());
         subjectComboBox.setValue(task.getCategory());
-        priorityComboBox.setValue(task.getPriority());
-        statusComboBox.setValue(task.getStatus());
+        priorityComboBox.setValue(task.getPriority().label());
+        statusComboBox.setValue(task.getStatus().code());
         progressSlider.setValue(task.getProgress());
 
         if (task.getDeadline() != null && !task.getDeadline().isEmpty()) {
@@ -124,15 +124,17 @@ public class TaskEditorController {
         }
 
         if (isEditMode) {
-            editingTask.setTitle(title);
-            editingTask.setDescription(descriptionArea.getText());
-            editingTask.setCategory(subjectComboBox.getValue());
-            editingTask.setPriority(priorityComboBox.getValue());
-            editingTask.setStatus(statusComboBox.getValue());
-            editingTask.setProgress((int) progressSlider.getValue());
-            editingTask.setDeadline(deadlineString);
-
-            CSVHelper.updateTask(editingTask);
+            // Yang diedit salinannya; task di repository diganti lewat updateTask
+            Task task = editingTask.copy();
+            task.setTitle(title);
+            task.setDescription(descriptionArea.getText());
+            task.setCategory(subjectComboBox.getValue());
+            task.setPriority(TaskPriority.fromLabel(priorityComboBox.getValue()));
+            task.setStatus(TaskStatus.fromCode(statusComboBox.getValue()));
+            task.setProgress((int) progressSlider.getValue());
+            task.setDeadline(deadlineString);
+
+            AsyncStore.run(() -> CSVHelper.updateTask(task));
         } else {
             Task newTask = new Task(
                     title,
@@ -141,15 +143,13 @@ public class TaskEditorController {
                     priorityComboBox.getValue(),
                     LoginController.currentUsername,
                     deadlineString);
-            newTask.setStatus(statusComboBox.getValue());
+            newTask.setStatus(TaskStatus.fromCode(statusComboBox.getValue()));
             newTask.setProgress((int) progressSlider.getValue());
 
-            CSVHelper.saveTask(newTask);
+            AsyncStore.run(() -> CSVHelper.saveTask(newTask));
         }
 
-        if (tasksViewController != null) {
-            tasksViewController.refresh();
-        }
+        // TasksViewController ikut ter-update lewat ChangeBus
 
         if (dialogStage != null)
             dialogStage.close();
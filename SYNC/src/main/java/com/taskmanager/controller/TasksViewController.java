@@ -1,17 +1,36 @@
 package com.taskmanager.controller;
 
-import com.taskmanager.component.TaskCard;
+import com.taskmanager.component.TaskCardCell;
 import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskFilter;
+import com.taskmanager.model.TaskPriority;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.utils.AsyncStore;
 import com.taskmanager.utils.CSVHelper;
+import com.taskmanager.utils.ChangeBus;
+import com.taskmanager.utils.ChangeType;
+import com.taskmanager.utils.FxmlLoadEvent;
+import com.taskmanager.utils.LongIntMap;
+import com.taskmanager.utils.Metrics;
+import com.taskmanager.utils.SceneSwitchEvent;
+import com.taskmanager.utils.SubjectEvent;
 import com.taskmanager.utils.SubjectHelper;
+import com.taskmanager.utils.TaskEvent;
+import com.taskmanager.utils.ViewRefreshEvent;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
+import javafx.scene.control.CheckMenuItem;
 import javafx.scene.control.ContentDisplay;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.MenuButton;
+import javafx.scene.control.MenuItem;
+import javafx.scene.control.SeparatorMenuItem;
 import javafx.scene.input.TransferMode;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
@@ -30,21 +49,30 @@ import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
 import javafx.scene.control.ScrollPane;
+import javafx.scene.control.TextField;
 import javafx.util.Duration;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public class TasksViewController {
     @FXML
     private BorderPane rootPane;
 
     @FXML
-    private VBox draftColumn;
+    private ListView<Task> draftColumn;
     @FXML
-    private VBox inProgressColumn;
+    private ListView<Task> inProgressColumn;
     @FXML
-    private VBox doneColumn;
+    private ListView<Task> doneColumn;
 
     @FXML
     private VBox sidebar;
@@ -74,12 +102,27 @@ public class TasksViewController {
     private VBox subjectsContainer;
     @FXML
     private Button btnManageSubjects;
+    @FXML
+    private TextField searchField;
+    @FXML
+    private MenuButton filterMenu;
 
     private boolean isSidebarCollapsed = false;
     private static final double SIDEBAR_EXPANDED_WIDTH = 260;
     private static final double SIDEBAR_COLLAPSED_WIDTH = 70;
 
-    private String currentFilterSubject = null; // null = show all
+    // Subject dipilih dari sidebar, facet lain dari menu Filter; filter kosong = show all
+    private final TaskFilter filter = new TaskFilter();
+    private String currentQuery = ""; // kosong = tanpa pencarian
+
+    // Tombol dan angka subject di sidebar, supaya event task cukup menambal satu angka
+    private final Map<String, Button> subjectButtons = new HashMap<>();
+    private final Map<String, Integer> subjectCounts = new HashMap<>();
+    private int pendingSubjectLoads = 0;
+
+    // Disimpan di field karena ChangeBus hanya memegang weak reference dan untuk unsubscribe
+    private final Consumer<TaskEvent> taskListener = ChangeBus.onFx(this::onTaskEvent);
+    private final Consumer<SubjectEvent> subjectListener = ChangeBus.onFx(this::onSubjectEvent);
 
     @FXML
     public void initialize() {
@@ -89,9 +132,13 @@ public class TasksViewController {
         fade.setToValue(1);
         fade.play();
 
-        setupColumnDrag(draftColumn, "draft");
-        setupColumnDrag(inProgressColumn, "in_progress");
-        setupColumnDrag(doneColumn, "done");
+        for (ListView<Task> column : List.of(draftColumn, inProgressColumn, doneColumn)) {
+            column.setCellFactory(list -> new TaskCardCell(this));
+            column.setFocusTraversable(false);
+        }
+        setupColumnDrag(draftColumn, TaskStatus.DRAFT);
+        setupColumnDrag(inProgressColumn, TaskStatus.IN_PROGRESS);
+        setupColumnDrag(doneColumn, TaskStatus.DONE);
 
         if (sidebar != null) {
             sidebar.setPrefWidth(SIDEBAR_EXPANDED_WIDTH);
@@ -113,35 +160,123 @@ public class TasksViewController {
                 btnLogout.setContentDisplay(cd);
         }
 
-        populateSubjects();
+        if (searchField != null) {
+            searchField.textProperty().addListener((obs, oldText, newText) -> {
+                currentQuery = newText.trim();
+                refresh();
+            });
+        }
+
+        ChangeBus.TASKS.subscribe(taskListener);
+        ChangeBus.SUBJECTS.subscribe(subjectListener);
+
+        setupFilterMenu();
         refresh();
     }
 
+    private void onTaskEvent(TaskEvent event) {
+        Task task = event.task();
+        if (!task.getCreatedBy().equals(LoginController.currentUsername)) {
+            return;
+        }
+        if (!currentQuery.isEmpty() || !filter.isEmpty()) {
+            // Cocok tidaknya (dan peringkat pencarian) ditentukan indeks di repository
+            refresh();
+            return;
+        }
+        // Tanpa filter board berisi semua task user, jadi versi lama task ada di salah satu kolom
+        ListView<Task> column = findColumn(task.getId());
+        Task previous = column != null ? findTask(column, task.getId()) : null;
+        if (event.type() == ChangeType.DELETED) {
+            if (previous != null) {
+                column.getItems().remove(previous);
+                adjustSubjectCount(previous.getCategory(), -1);
+            }
+        } else {
+            if (previous == null) {
+                adjustSubjectCount(task.getCategory(), 1);
+            } else if (!Objects.equals(previous.getCategory(), task.getCategory())) {
+                adjustSubjectCount(previous.getCategory(), -1);
+                adjustSubjectCount(task.getCategory(), 1);
+            }
+            showSavedTask(task);
+        }
+    }
+
+    // Hanya angka satu subject yang diubah. Kalau hitungan sidebar masih dimuat, angka yang sedang
+    // dimuat bisa sudah atau belum termasuk perubahan ini, jadi dihitung ulang saja.
+    private void adjustSubjectCount(String subject, int delta) {
+        if (pendingSubjectLoads > 0) {
+            populateSubjects();
+            return;
+        }
+        Button button = subjectButtons.get(subject);
+        if (button == null) {
+            return; // subject tidak tampil di sidebar
+        }
+        int count = subjectCounts.merge(subject, delta, Integer::sum);
+        button.setText(subject + " (" + count + ")");
+    }
+
+    private void onSubjectEvent(SubjectEvent event) {
+        if (event.type() == ChangeType.SUBJECT_RENAMED && filter.getSubjects().remove(event.oldName())) {
+            filter.getSubjects().add(event.newName());
+        }
+        if (event.type() == ChangeType.SUBJECT_RENAMED && !currentQuery.isEmpty()) {
+            // nama subject ikut dicocokkan pencarian
+            refresh();
+            return;
+        }
+        populateSubjects();
+    }
+
     private void populateSubjects() {
         if (subjectsContainer == null)
             return;
 
-        subjectsContainer.getChildren().clear();
-        List<String> subjects = SubjectHelper.getAllSubjects();
+        String username = LoginController.currentUsername;
+        TaskFilter snapshot = filter.copy();
+        pendingSubjectLoads++;
+        // Angka di samping subject dihitung dari bitmap facet dengan filter lain ikut diterapkan
+        AsyncStore.onFx(AsyncStore.call(() -> {
+            Map<String, Integer> taskCounts = CSVHelper.countTasksBySubject(username, snapshot);
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            for (String subject : SubjectHelper.getAllSubjects()) {
+                counts.put(subject, taskCounts.getOrDefault(subject, 0));
+            }
+            return counts;
+        }), this::showSubjects, e -> {
+            pendingSubjectLoads--;
+            e.printStackTrace();
+        });
+    }
 
-        for (String subject : subjects) {
-            Button subjectBtn = new Button(subject);
+    private void showSubjects(Map<String, Integer> counts) {
+        pendingSubjectLoads--;
+        subjectsContainer.getChildren().clear();
+        subjectButtons.clear();
+        subjectCounts.clear();
+        subjectCounts.putAll(counts);
+
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            String subject = entry.getKey();
+            Button subjectBtn = new Button(subject + " (" + entry.getValue() + ")");
+            subjectButtons.put(subject, subjectBtn);
             subjectBtn.setMaxWidth(Double.MAX_VALUE);
             subjectBtn.getStyleClass().add("nav-btn");
 
-            if (subject.equals(currentFilterSubject)) {
+            if (filter.getSubjects().contains(subject)) {
                 subjectBtn.getStyleClass().add("nav-btn-active");
             }
 
             subjectBtn.setOnAction(e -> {
 
-                if (subject.equals(currentFilterSubject)) {
-                    currentFilterSubject = null;
-                } else {
-                    currentFilterSubject = subject;
+                boolean selected = filter.getSubjects().contains(subject);
+                filter.getSubjects().clear();
+                if (!selected) {
+                    filter.getSubjects().add(subject);
                 }
-                populateSubjects(); // Repopulate to update visual state
-                refresh();
+                refresh(); // ikut memperbarui sidebar
             });
 
             subjectsContainer.getChildren().add(subjectBtn);
@@ -152,7 +287,7 @@ public class TasksViewController {
     private void handleManageSubjects() {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/view/SubjectView.fxml"));
-            Parent root = loader.load();
+            Parent root = FxmlLoadEvent.load(loader, "/view/SubjectView.fxml");
 
             Stage stage = new Stage();
             stage.initStyle(StageStyle.TRANSPARENT); // Clean look
@@ -179,10 +314,67 @@ public class TasksViewController {
     @FXML
     private void handleMyTasks() {
 
-        currentFilterSubject = null;
+        filter.getSubjects().clear();
+        filter.getStatuses().clear();
+        filter.getPriorities().clear();
+        filter.getDeadlines().clear();
+        if (filterMenu != null) {
+            for (MenuItem item : filterMenu.getItems()) {
+                if (item instanceof CheckMenuItem check) {
+                    check.setSelected(false);
+                }
+            }
+            updateFilterMenuText();
+        }
+        if (searchField != null && !searchField.getText().isEmpty()) {
+            searchField.clear(); // listener-nya ikut memanggil refresh
+            return;
+        }
         refresh();
     }
 
+    private void setupFilterMenu() {
+        if (filterMenu == null) {
+            return;
+        }
+        addFilterItems("PRIORITY", TaskPriority.values(), TaskPriority::label, filter.getPriorities());
+        addFilterItems("STATUS", TaskStatus.values(), status -> switch (status) {
+            case DRAFT -> "Draft";
+            case IN_PROGRESS -> "In Progress";
+            case DONE -> "Done";
+        }, filter.getStatuses());
+        addFilterItems("DEADLINE", TaskFilter.Deadline.values(), TaskFilter.Deadline::label, filter.getDeadlines());
+        updateFilterMenuText();
+    }
+
+    private <T> void addFilterItems(String title, T[] values, Function<T, String> label, Set<T> selection) {
+        if (!filterMenu.getItems().isEmpty()) {
+            filterMenu.getItems().add(new SeparatorMenuItem());
+        }
+        MenuItem header = new MenuItem(title);
+        header.setDisable(true);
+        filterMenu.getItems().add(header);
+
+        for (T value : values) {
+            CheckMenuItem item = new CheckMenuItem(label.apply(value));
+            item.setOnAction(e -> {
+                if (item.isSelected()) {
+                    selection.add(value);
+                } else {
+                    selection.remove(value);
+                }
+                updateFilterMenuText();
+                refresh();
+            });
+            filterMenu.getItems().add(item);
+        }
+    }
+
+    private void updateFilterMenuText() {
+        int active = filter.getPriorities().size() + filter.getStatuses().size() + filter.getDeadlines().size();
+        filterMenu.setText(active > 0 ? "Filter (" + active + ")" : "Filter");
+    }
+
     @FXML
     private void handleSidebarToggle() {
         isSidebarCollapsed = !isSidebarCollapsed;
@@ -218,7 +410,7 @@ public class TasksViewController {
             btnLogout.setContentDisplay(cd);
     }
 
-    private void setupColumnDrag(VBox column, String status) {
+    private void setupColumnDrag(ListView<Task> column, TaskStatus status) {
         column.setOnDragOver(event -> {
             if (event.getGestureSource() != column && event.getDragboard().hasString()) {
                 event.acceptTransferModes(TransferMode.MOVE);
@@ -231,72 +423,170 @@ public class TasksViewController {
             if (event.getDragboard().hasString()) {
                 String taskId = event.getDragboard().getString();
 
-                List<Task> allTasks = CSVHelper.getTasksByUsername(LoginController.currentUsername);
-                for (Task t : allTasks) {
-                    if (t.getId().equals(taskId)) {
-                        String oldStatus = t.getStatus();
-
-                        t.setStatus(status);
+                ListView<Task> source = findColumn(taskId);
+                if (source != null) {
+                    Task original = findTask(source, taskId);
+                    Task t = original.copy();
+                    TaskStatus oldStatus = t.getStatus();
 
-                        if ("draft".equals(status)) {
+                    t.setStatus(status);
 
-                            t.setProgress(0);
-                        } else if ("in_progress".equals(status)) {
-                            if ("draft".equals(oldStatus)) {
+                    if (status == TaskStatus.DRAFT) {
 
-                                t.setProgress(10);
-                            } else if ("done".equals(oldStatus)) {
+                        t.setProgress(0);
+                    } else if (status == TaskStatus.IN_PROGRESS) {
+                        if (oldStatus == TaskStatus.DRAFT) {
 
-                                t.setProgress(90);
-                            }
-                        } else if ("done".equals(status)) {
+                            t.setProgress(10);
+                        } else if (oldStatus == TaskStatus.DONE) {
 
-                            t.setProgress(100);
+                            t.setProgress(90);
                         }
+                    } else if (status == TaskStatus.DONE) {
 
-                        CSVHelper.updateTask(t);
-                        success = true;
-                        break;
+                        t.setProgress(100);
                     }
+
+                    // Kartu langsung dipindah, penyimpanan jalan di background
+                    source.getItems().remove(original);
+                    column.getItems().add(t);
+
+                    AsyncStore.run(() -> CSVHelper.updateTask(t));
+                    success = true;
                 }
-                refresh();
             }
             event.setDropCompleted(success);
             event.consume();
         });
     }
 
+    private ListView<Task> findColumn(String taskId) {
+        for (ListView<Task> column : List.of(draftColumn, inProgressColumn, doneColumn)) {
+            if (findTask(column, taskId) != null) {
+                return column;
+            }
+        }
+        return null;
+    }
+
+    private static Task findTask(ListView<Task> column, String taskId) {
+        for (Task task : column.getItems()) {
+            if (task.getId().equals(taskId)) {
+                return task;
+            }
+        }
+        return null;
+    }
+
     public void refresh() {
-        draftColumn.getChildren().clear();
-        inProgressColumn.getChildren().clear();
-        doneColumn.getChildren().clear();
+        String username = LoginController.currentUsername;
+        String query = currentQuery;
+        TaskFilter snapshot = filter.copy();
+        // Event selesai setelah kolom diperbarui, jadi durasinya mencakup antrean AsyncStore juga
+        ViewRefreshEvent event = ViewRefreshEvent.start(
+                !query.isEmpty() ? "search" : !snapshot.isEmpty() ? "filter" : "all");
+        Consumer<List<Task>> show = tasks -> {
+            showTasks(tasks);
+            event.finish();
+        };
+        if (!query.isEmpty()) {
+            // Hasil sudah urut berdasarkan skor, urutan itu dipakai di tiap kolom
+            AsyncStore.onFx(AsyncStore.call(() -> event.measure(() -> CSVHelper.searchTasks(username, query, snapshot))), show);
+        } else if (!snapshot.isEmpty()) {
+            AsyncStore.onFx(AsyncStore.call(() -> event.measure(() -> CSVHelper.filterTasks(username, snapshot))), show);
+        } else {
+            AsyncStore.onFx(AsyncStore.call(() -> event.measure(() -> CSVHelper.getTasksByUsername(username))), show);
+        }
+        populateSubjects();
+    }
 
-        List<Task> tasks = CSVHelper.getTasksByUsername(LoginController.currentUsername);
+    // Hanya perbedaan yang diterapkan ke tiap kolom, ListView sendiri yang membuat kartu untuk
+    // baris yang terlihat. Kartu yang tidak berubah tidak disentuh, jadi posisi scroll tetap.
+    private void showTasks(List<Task> tasks) {
+        List<Task> draft = new ArrayList<>();
+        List<Task> inProgress = new ArrayList<>();
+        List<Task> done = new ArrayList<>();
 
         for (Task task : tasks) {
-
-            if (currentFilterSubject != null && !task.getCategory().equals(currentFilterSubject)) {
-                continue;
+            switch (task.getStatus()) {
+                case IN_PROGRESS -> inProgress.add(task);
+                case DONE -> done.add(task);
+                default -> draft.add(task);
             }
+        }
 
-            TaskCard card = new TaskCard(task, this);
+        applyDiff(draftColumn.getItems(), draft);
+        applyDiff(inProgressColumn.getItems(), inProgress);
+        applyDiff(doneColumn.getItems(), done);
+    }
 
-            switch (task.getStatus()) {
-                case "draft" -> draftColumn.getChildren().add(card);
-                case "in_progress" -> inProgressColumn.getChildren().add(card);
-                case "done" -> doneColumn.getChildren().add(card);
-                default -> draftColumn.getChildren().add(card);
+    // Diff berdasarkan id: hapus yang hilang, lalu samakan urutan dengan insert/move seperlunya
+    static void applyDiff(ObservableList<Task> items, List<Task> target) {
+        LongIntMap targetKeys = new LongIntMap(target.size());
+        for (int i = 0; i < target.size(); i++) {
+            targetKeys.put(target.get(i).getKey(), i);
+        }
+
+        List<Task> removed = new ArrayList<>();
+        LongIntMap currentKeys = new LongIntMap(items.size());
+        for (Task task : items) {
+            if (targetKeys.containsKey(task.getKey())) {
+                currentKeys.put(task.getKey(), 0);
+            } else {
+                removed.add(task);
             }
         }
+        if (!removed.isEmpty()) {
+            items.removeAll(removed);
+        }
+
+        for (int i = 0; i < target.size(); i++) {
+            Task wanted = target.get(i);
+            if (i < items.size() && items.get(i).getKey() == wanted.getKey()) {
+                if (items.get(i) != wanted) {
+                    items.set(i, wanted);
+                }
+                continue;
+            }
+            if (currentKeys.containsKey(wanted.getKey())) {
+                // urutan berubah: pindahkan kartu yang sudah ada
+                for (int j = i + 1; j < items.size(); j++) {
+                    if (items.get(j).getKey() == wanted.getKey()) {
+                        items.remove(j);
+                        break;
+                    }
+                }
+            }
+            items.add(i, wanted);
+        }
+    }
+
+    // Task dibuat/diubah tanpa filter aktif: hanya kartu task itu yang dipindah atau di-update
+    private void showSavedTask(Task task) {
+        ListView<Task> source = findColumn(task.getId());
+        ListView<Task> target = switch (task.getStatus()) {
+            case IN_PROGRESS -> inProgressColumn;
+            case DONE -> doneColumn;
+            default -> draftColumn;
+        };
+
+        if (source != null && source == target) {
+            ObservableList<Task> items = source.getItems();
+            items.set(items.indexOf(findTask(source, task.getId())), task);
+            return;
+        }
+        if (source != null) {
+            source.getItems().remove(findTask(source, task.getId()));
+        }
+        target.getItems().add(task);
     }
 
     public void handleEditTask(Task task) {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/view/TaskEditor.fxml"));
-            Parent root = loader.load();
+            Parent root = FxmlLoadEvent.load(loader, "/view/TaskEditor.fxml");
 
             TaskEditorController controller = loader.getController();
-            controller.setTasksViewController(this);
             controller.setTask(task);
 
             Stage stage = new Stage();
@@ -356,8 +646,11 @@ public class TasksViewController {
         Button deleteBtn = new Button("Delete");
         deleteBtn.getStyleClass().add("btn-glass-secondary");
         deleteBtn.setOnAction(e -> {
-            CSVHelper.deleteTask(task.getId());
-            refresh();
+            ListView<Task> column = findColumn(task.getId());
+            if (column != null) {
+                column.getItems().remove(task);
+            }
+            AsyncStore.run(() -> CSVHelper.deleteTask(task.getId()));
             dialogStage.close();
         });
 
@@ -385,9 +678,8 @@ public class TasksViewController {
     private void handleAddTask() {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/view/TaskEditor.fxml"));
-            Parent root = loader.load();
+            Parent root = FxmlLoadEvent.load(loader, "/view/TaskEditor.fxml");
             TaskEditorController controller = loader.getController();
-            controller.setTasksViewController(this);
 
             Stage stage = new Stage();
             stage.initStyle(StageStyle.TRANSPARENT);
@@ -419,13 +711,24 @@ public class TasksViewController {
         changeScene("/view/Login.fxml");
     }
 
+    // Halaman ini sudah diganti, jadi listener-nya tidak perlu lagi menerima event
+    private void unsubscribe() {
+        ChangeBus.TASKS.unsubscribe(taskListener);
+        ChangeBus.SUBJECTS.unsubscribe(subjectListener);
+    }
+
     private void changeScene(String fxml) {
+        SceneSwitchEvent event = SceneSwitchEvent.start("changeScene", fxml);
         try {
-            Parent root = FXMLLoader.load(getClass().getResource(fxml));
+            Metrics.setView(fxml);
+            Parent root = FxmlLoadEvent.load(new FXMLLoader(getClass().getResource(fxml)), fxml);
             Stage stage = (Stage) rootPane.getScene().getWindow();
             stage.getScene().setRoot(root);
+            unsubscribe();
         } catch (Exception e) {
             e.printStackTrace();
+        } finally {
+            event.finish();
         }
     }
 
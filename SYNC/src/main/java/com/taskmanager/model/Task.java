@@ -1,87 +1,222 @@
 package com.taskmanager.model;
 
+import com.taskmanager.utils.CsvCodec;
+import com.taskmanager.utils.StringDictionary;
+import com.taskmanager.utils.TaskIds;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
-import java.util.UUID;
+import java.time.format.DateTimeParseException;
 
+// Model ringkas: status/priority berupa enum, subject dan pemilik berupa id dari StringDictionary,
+// createdAt dan deadline berupa epoch millis. Getter String tetap ada untuk CSV dan tampilan.
 public class Task {
-    private String id;
+    public static final long NO_DEADLINE = Long.MIN_VALUE;
+    public static final long INVALID_DEADLINE = Long.MIN_VALUE + 1;
+
+    private static final long MINUTE_MILLIS = 60_000L;
+    private static final long HOUR_MILLIS = 60 * MINUTE_MILLIS;
+    private static final long DAY_MILLIS = 24 * HOUR_MILLIS;
+
+    private long id;
     private String title;
     private String description;
-    private String category;
-    private String priority;
-    private String status;
+    private TaskStatus status;
+    private TaskPriority priority;
     private int progress;
-    private String createdBy;
-    private String createdAt;
-
-    private String deadline;
+    private int categoryId;
+    private int ownerId;
+    private long createdAtMillis;
+    // Deadline dalam epoch millis, di-parse sekali saat task dibuat/dimuat atau deadline diubah
+    private long deadlineMillis;
+    // Teks asli hanya disimpan kalau tidak bisa di-parse, supaya tidak hilang saat ditulis ulang
+    private String unparsedCreatedAt;
+    private String unparsedDeadline;
 
     public Task(String title, String description, String category, String priority, String createdBy, String deadline) {
-        this.id = UUID.randomUUID().toString().substring(0, 8);
+        this.id = TaskIds.next();
         this.title = title;
         this.description = description;
-        this.category = category;
-        this.priority = priority;
-        this.status = "draft";
+        setCategory(category);
+        setPriority(TaskPriority.fromLabel(priority));
+        this.status = TaskStatus.DRAFT;
         this.progress = 0;
-        this.createdBy = createdBy;
-        this.createdAt = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        this.deadline = deadline; // Simpan deadline
+        this.ownerId = StringDictionary.OWNERS.idOf(createdBy);
+        this.createdAtMillis = System.currentTimeMillis();
+        setDeadline(deadline); // Simpan deadline
     }
 
     public Task(String id, String title, String description, String category, String priority,
             String status, int progress, String createdBy, String createdAt, String deadline) {
-        this.id = id;
+        this.id = TaskIds.parse(id);
         this.title = title;
         this.description = description;
-        this.category = category;
+        setCategory(category);
+        setPriority(TaskPriority.fromLabel(priority));
+        this.status = TaskStatus.fromCode(status);
+        this.progress = progress;
+        this.ownerId = StringDictionary.OWNERS.idOf(createdBy);
+        this.createdAtMillis = parseTimestamp(createdAt);
+        this.unparsedCreatedAt = createdAtMillis == INVALID_DEADLINE ? createdAt : null;
+        setDeadline(deadline);
+    }
+
+    // Dari store biner: id, enum dan waktu sudah dalam bentuk tersimpan, tidak ada parsing teks
+    public Task(long key, String title, String description, String category, TaskPriority priority,
+            TaskStatus status, int progress, String createdBy, long createdAtMillis, long deadlineMillis) {
+        this.id = key;
+        this.title = title;
+        this.description = description;
+        setCategory(category);
         this.priority = priority;
         this.status = status;
         this.progress = progress;
-        this.createdBy = createdBy;
-        this.createdAt = createdAt;
-        this.deadline = deadline;
+        this.ownerId = StringDictionary.OWNERS.idOf(createdBy);
+        this.createdAtMillis = createdAtMillis;
+        this.deadlineMillis = deadlineMillis;
+    }
+
+    private Task() {
     }
 
+    // Salinan untuk diedit di controller; instance milik TaskRepository tidak boleh diubah langsung
+    public Task copy() {
+        Task copy = new Task();
+        copy.id = id;
+        copy.title = title;
+        copy.description = description;
+        copy.status = status;
+        copy.priority = priority;
+        copy.progress = progress;
+        copy.categoryId = categoryId;
+        copy.ownerId = ownerId;
+        copy.createdAtMillis = createdAtMillis;
+        copy.deadlineMillis = deadlineMillis;
+        copy.unparsedCreatedAt = unparsedCreatedAt;
+        copy.unparsedDeadline = unparsedDeadline;
+        return copy;
+    }
+
+    private static long parseTimestamp(String value) {
+        if (value == null || value.isEmpty()) {
+            return NO_DEADLINE;
+        }
+        try {
+            return LocalDateTime.parse(value, DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+                    .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return INVALID_DEADLINE;
+        }
+    }
+
+    private static String formatTimestamp(long millis, String unparsed) {
+        if (millis == NO_DEADLINE) {
+            return null;
+        }
+        if (millis == INVALID_DEADLINE) {
+            return unparsed;
+        }
+        // toString() tidak menulis detik kalau nol, sama seperti format deadline dari editor
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault()).toString();
+    }
+
+    // Newline di deskripsi di-escape oleh CsvCodec (\n), bentuk yang sama dengan file lama.
+    // Ditulis langsung ke satu StringBuilder, tanpa array varargs dan String untuk progress.
     public String toCSV() {
+        String id = getId();
+        String category = getCategory();
+        String createdBy = getCreatedBy();
+        String createdAt = getCreatedAt();
+        String deadline = getDeadline();
+        // Perkiraan panjang supaya StringBuilder tidak perlu diperbesar
+        int capacity = 32 + id.length() + length(title) + length(description) + length(category) + length(createdBy)
+                + length(createdAt) + length(deadline);
+        StringBuilder sb = new StringBuilder(capacity);
+        // id (hex), enum, angka dan waktu yang valid tidak pernah berisi karakter khusus, jadi
+        // hanya teks bebas yang dipindai oleh CsvCodec
+        sb.append(id).append(',');
+        CsvCodec.appendField(sb, title);
+        sb.append(',');
+        CsvCodec.appendField(sb, description);
+        sb.append(',');
+        CsvCodec.appendField(sb, category);
+        sb.append(',').append(priority.label());
+        sb.append(',').append(status.code());
+        sb.append(',').append(progress);
+        sb.append(',');
+        CsvCodec.appendField(sb, createdBy);
+        sb.append(',');
+        appendTimestamp(sb, createdAtMillis, createdAt);
+        sb.append(',');
+        appendTimestamp(sb, deadlineMillis, deadline);
+        return sb.toString();
+    }
+
+    private static void appendTimestamp(StringBuilder sb, long millis, String text) {
+        if (millis == INVALID_DEADLINE) {
+            CsvCodec.appendField(sb, text);
+        } else if (text != null) {
+            sb.append(text);
+        }
+    }
 
-        String safeDescription = description != null ? description.replace("\n", "\\n") : "";
-        return id + "," + title + "," + safeDescription + "," + category + "," + priority + "," +
-                status + "," + progress + "," + createdBy + "," + createdAt + "," + (deadline != null ? deadline : "");
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
     }
 
     public String getTimeRemaining() {
-        if (deadline == null || deadline.isEmpty())
-            return "No Deadline";
+        return getTimeRemaining(System.currentTimeMillis());
+    }
 
-        try {
-            LocalDateTime due = LocalDateTime.parse(deadline, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-            LocalDateTime now = LocalDateTime.now();
-
-            long days = ChronoUnit.DAYS.between(now, due);
-            long hours = ChronoUnit.HOURS.between(now, due) % 24;
-            long minutes = ChronoUnit.MINUTES.between(now, due) % 60;
-
-            if (now.isAfter(due)) {
-                return "OVERDUE!";
-            } else if (days > 0) {
-                return days + "d " + hours + "h left";
-            } else {
-                return hours + "h " + minutes + "m left";
-            }
-        } catch (Exception e) {
+    // Dipakai CountdownClock supaya semua label dihitung dari satu "now" yang sama
+    public String getTimeRemaining(long nowMillis) {
+        if (deadlineMillis == NO_DEADLINE)
+            return "No Deadline";
+        if (deadlineMillis == INVALID_DEADLINE)
             return "Invalid Date";
+
+        long remaining = deadlineMillis - nowMillis;
+        if (remaining < 0) {
+            return "OVERDUE!";
+        }
+
+        long days = remaining / DAY_MILLIS;
+        long hours = remaining % DAY_MILLIS / HOUR_MILLIS;
+        long minutes = remaining % HOUR_MILLIS / MINUTE_MILLIS;
+        if (days > 0) {
+            return days + "d " + hours + "h left";
+        } else {
+            return hours + "h " + minutes + "m left";
         }
     }
 
+    public boolean hasDeadline() {
+        return deadlineMillis != NO_DEADLINE && deadlineMillis != INVALID_DEADLINE;
+    }
+
+    public boolean isOverdue(long nowMillis) {
+        return hasDeadline() && deadlineMillis < nowMillis;
+    }
+
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+
     public String getId() {
-        return id;
+        return TaskIds.format(id);
     }
 
     public void setId(String id) {
-        this.id = id;
+        this.id = TaskIds.parse(id);
+    }
+
+    public long getKey() {
+        return id;
+    }
+
+    public void setKey(long key) {
+        this.id = key;
     }
 
     public String getTitle() {
@@ -101,26 +236,30 @@ public class Task {
     }
 
     public String getCategory() {
-        return category;
+        return StringDictionary.SUBJECTS.valueOf(categoryId);
+    }
+
+    public int getCategoryId() {
+        return categoryId;
     }
 
     public void setCategory(String category) {
-        this.category = category;
+        this.categoryId = StringDictionary.SUBJECTS.idOf(category);
     }
 
-    public String getPriority() {
+    public TaskPriority getPriority() {
         return priority;
     }
 
-    public void setPriority(String priority) {
+    public void setPriority(TaskPriority priority) {
         this.priority = priority;
     }
 
-    public String getStatus() {
+    public TaskStatus getStatus() {
         return status;
     }
 
-    public void setStatus(String status) {
+    public void setStatus(TaskStatus status) {
         this.status = status;
     }
 
@@ -132,11 +271,33 @@ public class Task {
         this.progress = progress;
     }
 
+    public String getCreatedBy() {
+        return StringDictionary.OWNERS.valueOf(ownerId);
+    }
+
+    public int getOwnerId() {
+        return ownerId;
+    }
+
+    public String getCreatedAt() {
+        return formatTimestamp(createdAtMillis, unparsedCreatedAt);
+    }
+
+    public long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+
+    public void setCreatedAt(String createdAt) {
+        this.createdAtMillis = parseTimestamp(createdAt);
+        this.unparsedCreatedAt = createdAtMillis == INVALID_DEADLINE ? createdAt : null;
+    }
+
     public String getDeadline() {
-        return deadline;
+        return formatTimestamp(deadlineMillis, unparsedDeadline);
     }
 
     public void setDeadline(String deadline) {
-        this.deadline = deadline;
+        this.deadlineMillis = parseTimestamp(deadline);
+        this.unparsedDeadline = deadlineMillis == INVALID_DEADLINE ? deadline : null;
     }
 }
@@ -0,0 +1,68 @@
+package com.taskmanager.model;
+
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// Kriteria filter board. Set kosong berarti facet tersebut tidak difilter; di dalam satu facet
+// nilainya digabung dengan OR, antar facet dengan AND.
+public class TaskFilter {
+    public enum Deadline {
+        OVERDUE("Overdue"),
+        DUE_SOON("Due in 24h"),
+        THIS_WEEK("Due this week"),
+        LATER("Later"),
+        NONE("No deadline");
+
+        private final String label;
+
+        Deadline(String label) {
+            this.label = label;
+        }
+
+        public String label() {
+            return label;
+        }
+    }
+
+    private final Set<String> subjects = new LinkedHashSet<>();
+    private final Set<TaskStatus> statuses = EnumSet.noneOf(TaskStatus.class);
+    private final Set<TaskPriority> priorities = EnumSet.noneOf(TaskPriority.class);
+    private final Set<String> owners = new LinkedHashSet<>();
+    private final Set<Deadline> deadlines = EnumSet.noneOf(Deadline.class);
+
+    public TaskFilter copy() {
+        TaskFilter copy = new TaskFilter();
+        copy.subjects.addAll(subjects);
+        copy.statuses.addAll(statuses);
+        copy.priorities.addAll(priorities);
+        copy.owners.addAll(owners);
+        copy.deadlines.addAll(deadlines);
+        return copy;
+    }
+
+    public boolean isEmpty() {
+        return subjects.isEmpty() && statuses.isEmpty() && priorities.isEmpty()
+                && owners.isEmpty() && deadlines.isEmpty();
+    }
+
+    public Set<String> getSubjects() {
+        return subjects;
+    }
+
+    public Set<TaskStatus> getStatuses() {
+        return statuses;
+    }
+
+    public Set<TaskPriority> getPriorities() {
+        return priorities;
+    }
+
+    public Set<String> getOwners() {
+        return owners;
+    }
+
+    public Set<Deadline> getDeadlines() {
+        return deadlines;
+    }
+}
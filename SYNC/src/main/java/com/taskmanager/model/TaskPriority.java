@@ -0,0 +1,26 @@
+package com.taskmanager.model;
+
+public enum TaskPriority {
+    HIGH("High"),
+    MEDIUM("Medium"),
+    LOW("Low");
+
+    private final String label;
+
+    TaskPriority(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public static TaskPriority fromLabel(String label) {
+        for (TaskPriority priority : values()) {
+            if (priority.label.equalsIgnoreCase(label)) {
+                return priority;
+            }
+        }
+        return LOW;
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskmanager.model;
+
+public enum TaskStatus {
+    DRAFT("draft"),
+    IN_PROGRESS("in_progress"),
+    DONE("done");
+
+    private final String code;
+
+    TaskStatus(String code) {
+        this.code = code;
+    }
+
+    // Nilai yang disimpan di CSV dan dipakai di ComboBox editor
+    public String code() {
+        return code;
+    }
+
+    // Status kosong/tidak dikenal dianggap draft, sama seperti sebelumnya di dashboard
+    public static TaskStatus fromCode(String code) {
+        for (TaskStatus status : values()) {
+            if (status.code.equals(code)) {
+                return status;
+            }
+        }
+        return DRAFT;
+    }
+}
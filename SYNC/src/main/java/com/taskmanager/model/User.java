@@ -1,5 +1,6 @@
 package com.taskmanager.model;
 
+import com.taskmanager.utils.CsvCodec;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
@@ -50,7 +51,7 @@ public class User {
     }
 
     public String toCSV() {
-        return username + "," + passwordHash + "," + email + "," + createdAt;
+        return CsvCodec.format(username, passwordHash, email, createdAt);
     }
 
     public String getUsername() {
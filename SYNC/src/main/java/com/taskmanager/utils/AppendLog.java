@@ -0,0 +1,207 @@
+package com.taskmanager.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+public class AppendLog {
+    private static final int CHECKSUM_LENGTH = 8;
+
+    private final Path path;
+    private final Path rotatedPath;
+    private int records = -1;
+    private final OperationMetrics readMetrics;
+    private final OperationMetrics appendMetrics;
+
+    public AppendLog(String filePath) {
+        this.path = Paths.get(filePath);
+        this.rotatedPath = Paths.get(filePath + ".old");
+        this.readMetrics = Metrics.operation("AppendLog.read:" + path.getFileName());
+        this.appendMetrics = Metrics.operation("AppendLog.append:" + path.getFileName());
+    }
+
+    // Record valid beserta posisinya: file (rotasi atau aktif), offset awal baris dan panjangnya
+    interface RecordVisitor {
+        void visit(String record, boolean rotated, long offset, int length);
+    }
+
+    // Urutan replay: log hasil rotasi (compaction yang belum selesai) lalu log aktif
+    public synchronized List<String> readAll() {
+        List<String> lines = new ArrayList<>();
+        scan((record, rotated, offset, length) -> lines.add(record));
+        return lines;
+    }
+
+    // Sama dengan readAll, tapi posisi setiap record ikut dilaporkan untuk readAt
+    synchronized void scan(RecordVisitor visitor) {
+        long start = System.nanoTime();
+        int rotatedRecords = readInto(rotatedPath, true, visitor, readMetrics);
+        int active = readInto(path, false, visitor, readMetrics);
+        records = active;
+        readMetrics.addRowsScanned(rotatedRecords + active);
+        readMetrics.record(System.nanoTime() - start);
+    }
+
+    // Satu record dari posisi yang dilaporkan scan, atau null kalau posisi itu sudah tidak berisi
+    // record yang valid (file sudah dirotasi, dipotong atau diganti)
+    synchronized String readAt(boolean rotated, long offset, int length) {
+        byte[] data = new byte[length];
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        try (FileChannel channel = FileChannel.open(rotated ? rotatedPath : path, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    return null;
+                }
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        readMetrics.addBytesRead(length);
+        return decode(data, 0, length);
+    }
+
+    // Setiap record diawali CRC32-nya. Record rusak di tengah file dilewati dan dicatat sebagai error,
+    // file dibiarkan utuh. Hanya ekor yang rusak (crash saat append, tidak ada record valid
+    // sesudahnya) yang dibuang dengan memotong file di akhir record valid terakhir.
+    private static int readInto(Path file, boolean rotated, RecordVisitor visitor, OperationMetrics metrics) {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        int count = 0;
+        try {
+            byte[] data = Files.readAllBytes(file);
+            metrics.addBytesRead(data.length);
+            int start = 0;
+            int validLength = 0;
+            int skipped = 0;
+            for (int i = 0; i < data.length; i++) {
+                if (data[i] != '\n') {
+                    continue;
+                }
+                int end = i > start && data[i - 1] == '\r' ? i - 1 : i;
+                String record = decode(data, start, end);
+                if (record != null) {
+                    visitor.visit(record, rotated, start, end - start);
+                    count++;
+                    validLength = i + 1;
+                    // Ada record valid sesudahnya, jadi yang rusak tadi bukan ekor yang terpotong
+                    for (; skipped > 0; skipped--) {
+                        metrics.error();
+                    }
+                } else if (end > start) {
+                    skipped++;
+                }
+                start = i + 1;
+            }
+
+            if (validLength < data.length) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(validLength);
+                    channel.force(true);
+                }
+            }
+        } catch (IOException e) {
+            metrics.error();
+            e.printStackTrace();
+        }
+        return count;
+    }
+
+    private static String decode(byte[] data, int start, int end) {
+        int separator = start + CHECKSUM_LENGTH;
+        if (end <= separator || data[separator] != ':') {
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(data, separator + 1, end - separator - 1);
+        String expected = new String(data, start, CHECKSUM_LENGTH, StandardCharsets.US_ASCII);
+        if (!expected.equals(checksum(crc.getValue()))) {
+            return null;
+        }
+        return new String(data, separator + 1, end - separator - 1, StandardCharsets.UTF_8);
+    }
+
+    private static String checksum(long value) {
+        String hex = Long.toHexString(value);
+        return "00000000".substring(hex.length()) + hex;
+    }
+
+    public void append(String record) {
+        appendBatch(List.of(record));
+    }
+
+    // Satu write dan satu fsync untuk seluruh batch
+    public synchronized void appendBatch(List<String> batch) {
+        long start = System.nanoTime();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(batch.size() * 128);
+        CRC32 crc = new CRC32();
+        for (String record : batch) {
+            byte[] recordBytes = record.getBytes(StandardCharsets.UTF_8);
+            crc.reset();
+            crc.update(recordBytes);
+            out.writeBytes(checksum(crc.getValue()).getBytes(StandardCharsets.US_ASCII));
+            out.write(':');
+            out.writeBytes(recordBytes);
+            out.write('\n');
+        }
+        byte[] bytes = out.toByteArray();
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            if (records >= 0) {
+                records += batch.size();
+            }
+            appendMetrics.addBytesWritten(bytes.length);
+        } catch (IOException e) {
+            appendMetrics.error();
+            e.printStackTrace();
+        }
+        appendMetrics.record(System.nanoTime() - start);
+    }
+
+    public synchronized int size() {
+        if (records < 0) {
+            readAll();
+        }
+        return records;
+    }
+
+    // Log aktif dipindah ke samping supaya append baru tetap jalan selama snapshot ditulis
+    public synchronized boolean rotate() {
+        if (Files.exists(rotatedPath) || !Files.exists(path)) {
+            return false;
+        }
+        try {
+            Files.move(path, rotatedPath, StandardCopyOption.ATOMIC_MOVE);
+            records = 0;
+            return true;
+        } catch (IOException e) {
+            appendMetrics.error();
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    public synchronized void discardRotated() {
+        try {
+            Files.deleteIfExists(rotatedPath);
+        } catch (IOException e) {
+            appendMetrics.error();
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.taskmanager.utils;
+
+import javafx.application.Platform;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Semua akses CSVHelper/SubjectHelper dari controller lewat sini supaya JavaFX thread
+// tidak pernah menunggu disk. Satu thread (virtual) dipakai agar urutan read/write tetap terjaga.
+public class AsyncStore {
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("store-io").factory());
+
+    public static <T> CompletableFuture<T> call(Supplier<T> operation) {
+        return CompletableFuture.supplyAsync(operation, executor);
+    }
+
+    public static CompletableFuture<Void> run(Runnable operation) {
+        return CompletableFuture.runAsync(operation, executor)
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        error.printStackTrace();
+                    }
+                });
+    }
+
+    public static <T> void onFx(CompletableFuture<T> future, Consumer<T> onSuccess) {
+        onFx(future, onSuccess, Throwable::printStackTrace);
+    }
+
+    public static <T> void onFx(CompletableFuture<T> future, Consumer<T> onSuccess, Consumer<Throwable> onError) {
+        future.whenComplete((result, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                onError.accept(error);
+            } else {
+                onSuccess.accept(result);
+            }
+        }));
+    }
+}
@@ -0,0 +1,58 @@
+package com.taskmanager.utils;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// Format file .bin: magic, versi, jumlah record, lalu record-nya. String ditulis sebagai panjang (int)
+// + byte UTF-8, panjang -1 berarti null. Tidak ada parsing teks sama sekali saat load.
+class BinarySnapshot {
+    static final int VERSION = 1;
+
+    static void writeHeader(DataOutputStream out, int magic, int count) throws IOException {
+        writeHeader(out, magic, VERSION, count);
+    }
+
+    static void writeHeader(DataOutputStream out, int magic, int version, int count) throws IOException {
+        out.writeInt(magic);
+        out.writeInt(version);
+        out.writeInt(count);
+    }
+
+    // Mengembalikan jumlah record, atau -1 kalau file bukan snapshot yang dikenali
+    static int readHeader(DataInputStream in, int magic) throws IOException {
+        if (readVersion(in, magic) != VERSION) {
+            return -1;
+        }
+        return in.readInt();
+    }
+
+    // Versi file (jumlah record dibaca sesudahnya), atau -1 kalau magic-nya bukan milik file ini
+    static int readVersion(DataInputStream in, int magic) throws IOException {
+        if (in.readInt() != magic) {
+            return -1;
+        }
+        return in.readInt();
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,202 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskPriority;
+import com.taskmanager.model.TaskStatus;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Snapshot biner tasks.bin + journal tasks.bin.log. Setiap perubahan masuk journal (record sama
+// dengan tasks.log), snapshot ditulis ulang (atomic) di background saat journal sudah besar.
+// Kalau tasks.bin belum ada, data diambil sekali dari tasks.csv + tasks.log.
+public class BinaryTaskStore implements TaskStore {
+    static final String TASKS_BIN = CSVHelper.DATA_DIR + "/tasks.bin";
+    static final String TASKS_BIN_LOG = TASKS_BIN + ".log";
+    private static final int MAGIC = 0x53594E54; // "SYNT"
+    // Versi 2: id, waktu (epoch millis) dan enum (ordinal) ditulis sebagai angka.
+    // Versi 1 (semua field string) masih dibaca dan ditulis ulang sebagai versi 2.
+    private static final int VERSION = 2;
+    private static final int COMPACT_MIN_RECORDS = 1000;
+
+    private final Path path = Paths.get(TASKS_BIN);
+    private final AppendLog journal = new AppendLog(TASKS_BIN_LOG);
+    private final WriteBehindQueue writeQueue;
+    // Snapshot perlu ditulis walaupun journal masih kecil (hasil migrasi atau file versi lama)
+    private boolean rewrite = false;
+
+    public BinaryTaskStore(long flushMillis, int flushBatch) {
+        this.writeQueue = new WriteBehindQueue(journal, flushMillis, flushBatch);
+    }
+
+    @Override
+    public synchronized List<Task> loadAll() {
+        Map<Long, Task> tasks = new LinkedHashMap<>();
+        List<Task> base;
+        if (Files.exists(path)) {
+            base = readSnapshot();
+        } else {
+            base = CsvTaskStore.readFiles();
+            rewrite = !base.isEmpty();
+        }
+        for (Task task : base) {
+            tasks.put(task.getKey(), task);
+        }
+        CsvTaskStore.replay(tasks, journal.readAll());
+        return new ArrayList<>(tasks.values());
+    }
+
+    // File yang tidak bisa dibaca tidak boleh dianggap kosong: snapshot berikutnya akan menimpanya
+    private List<Task> readSnapshot() {
+        OperationMetrics metrics = Metrics.operation("BinaryTaskStore.read:tasks.bin");
+        long start = System.nanoTime();
+        List<Task> tasks = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            int version = BinarySnapshot.readVersion(in, MAGIC);
+            if (version != VERSION && version != 1) {
+                throw new IOException(TASKS_BIN + " bukan snapshot task yang dikenali");
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                tasks.add(version == VERSION ? readTask(in) : readTaskV1(in));
+            }
+            rewrite = version != VERSION;
+            metrics.addBytesRead(Files.size(path));
+        } catch (IOException e) {
+            metrics.error();
+            throw new UncheckedIOException(e);
+        }
+        metrics.addRowsScanned(tasks.size());
+        metrics.record(System.nanoTime() - start);
+        return tasks;
+    }
+
+    private static Task readTask(DataInputStream in) throws IOException {
+        long key = in.readLong();
+        String title = BinarySnapshot.readString(in);
+        String description = BinarySnapshot.readString(in);
+        String category = BinarySnapshot.readString(in);
+        TaskPriority priority = ordinal(TaskPriority.values(), in.readUnsignedByte());
+        TaskStatus status = ordinal(TaskStatus.values(), in.readUnsignedByte());
+        int progress = in.readInt();
+        String createdBy = BinarySnapshot.readString(in);
+        long createdAt = in.readLong();
+        String unparsedCreatedAt = createdAt == Task.INVALID_DEADLINE ? BinarySnapshot.readString(in) : null;
+        long deadline = in.readLong();
+        String unparsedDeadline = deadline == Task.INVALID_DEADLINE ? BinarySnapshot.readString(in) : null;
+
+        Task task = new Task(key, title, description, category, priority, status, progress, createdBy,
+                createdAt, deadline);
+        if (unparsedCreatedAt != null) {
+            task.setCreatedAt(unparsedCreatedAt);
+        }
+        if (unparsedDeadline != null) {
+            task.setDeadline(unparsedDeadline);
+        }
+        return task;
+    }
+
+    private static <E> E ordinal(E[] values, int ordinal) throws IOException {
+        if (ordinal >= values.length) {
+            throw new IOException(TASKS_BIN + " rusak: ordinal " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    private static Task readTaskV1(DataInputStream in) throws IOException {
+        try {
+            return new Task(
+                    BinarySnapshot.readString(in),
+                    BinarySnapshot.readString(in),
+                    BinarySnapshot.readString(in),
+                    BinarySnapshot.readString(in),
+                    BinarySnapshot.readString(in),
+                    BinarySnapshot.readString(in),
+                    in.readInt(),
+                    BinarySnapshot.readString(in),
+                    BinarySnapshot.readString(in),
+                    BinarySnapshot.readString(in));
+        } catch (NumberFormatException e) {
+            throw new IOException(TASKS_BIN + " rusak: id task tidak valid", e);
+        }
+    }
+
+    @Override
+    public synchronized void upsert(Task task) {
+        writeQueue.submit(task.getId(), CsvTaskStore.UPSERT + task.toCSV());
+    }
+
+    @Override
+    public synchronized void delete(String taskId) {
+        writeQueue.submit(taskId, CsvTaskStore.DELETE + taskId);
+    }
+
+    // Antrian di-flush dulu supaya upsert yang masih membawa nama lama tertulis sebelum record ini
+    @Override
+    public synchronized void renameSubject(String oldName, String newName) {
+        writeQueue.flush();
+        journal.append(CsvTaskStore.RENAME + CsvCodec.format(oldName, newName));
+    }
+
+    @Override
+    public synchronized boolean needsCompaction(int liveTasks) {
+        int garbage = journal.size();
+        return rewrite || (garbage >= COMPACT_MIN_RECORDS && garbage > liveTasks);
+    }
+
+    @Override
+    public synchronized void beginCompaction() {
+        journal.rotate();
+        rewrite = false;
+    }
+
+    @Override
+    public void finishCompaction(List<Task> snapshot) {
+        boolean written = CSVHelper.replaceFile(TASKS_BIN, stream -> {
+            DataOutputStream out = new DataOutputStream(stream);
+            BinarySnapshot.writeHeader(out, MAGIC, VERSION, snapshot.size());
+            for (Task task : snapshot) {
+                out.writeLong(task.getKey());
+                BinarySnapshot.writeString(out, task.getTitle());
+                BinarySnapshot.writeString(out, task.getDescription());
+                BinarySnapshot.writeString(out, task.getCategory());
+                out.writeByte(task.getPriority().ordinal());
+                out.writeByte(task.getStatus().ordinal());
+                out.writeInt(task.getProgress());
+                BinarySnapshot.writeString(out, task.getCreatedBy());
+                writeTimestamp(out, task.getCreatedAtMillis(), task.getCreatedAt());
+                writeTimestamp(out, task.getDeadlineMillis(), task.getDeadline());
+            }
+            out.flush();
+        });
+        if (written) {
+            journal.discardRotated();
+        } else {
+            synchronized (this) {
+                rewrite = true;
+            }
+        }
+    }
+
+    // Teks yang tidak bisa di-parse ikut ditulis supaya tidak hilang
+    private static void writeTimestamp(DataOutputStream out, long millis, String text) throws IOException {
+        out.writeLong(millis);
+        if (millis == Task.INVALID_DEADLINE) {
+            BinarySnapshot.writeString(out, text);
+        }
+    }
+
+    @Override
+    public void flush() {
+        writeQueue.flush();
+    }
+}
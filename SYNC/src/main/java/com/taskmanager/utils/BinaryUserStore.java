@@ -0,0 +1,111 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.User;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Snapshot biner users.bin + journal users.bin.log, migrasi sekali dari users.csv + users.log
+public class BinaryUserStore implements UserStore {
+    static final String USERS_BIN = CSVHelper.DATA_DIR + "/users.bin";
+    static final String USERS_BIN_LOG = USERS_BIN + ".log";
+    private static final int MAGIC = 0x53594E55; // "SYNU"
+    private static final int COMPACT_MIN_RECORDS = 200;
+
+    private final Path path = Paths.get(USERS_BIN);
+    private final AppendLog journal = new AppendLog(USERS_BIN_LOG);
+    // Snapshot perlu ditulis walaupun journal masih kecil (hasil migrasi)
+    private boolean rewrite = false;
+
+    @Override
+    public synchronized List<User> loadAll() {
+        Map<String, User> users = new LinkedHashMap<>();
+        List<User> base;
+        if (Files.exists(path)) {
+            base = readSnapshot();
+        } else {
+            base = CsvUserStore.readFiles();
+            rewrite = !base.isEmpty();
+        }
+        for (User user : base) {
+            users.put(user.getUsername(), user);
+        }
+        CsvUserStore.replay(users, journal.readAll());
+        return new ArrayList<>(users.values());
+    }
+
+    // File yang tidak bisa dibaca tidak boleh dianggap kosong: snapshot berikutnya akan menimpanya
+    private List<User> readSnapshot() {
+        OperationMetrics metrics = Metrics.operation("BinaryUserStore.read:users.bin");
+        long start = System.nanoTime();
+        List<User> users = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            int count = BinarySnapshot.readHeader(in, MAGIC);
+            if (count < 0) {
+                throw new IOException(USERS_BIN + " bukan snapshot user yang dikenali");
+            }
+            for (int i = 0; i < count; i++) {
+                users.add(new User(
+                        BinarySnapshot.readString(in),
+                        BinarySnapshot.readString(in),
+                        BinarySnapshot.readString(in),
+                        BinarySnapshot.readString(in)));
+            }
+            metrics.addBytesRead(Files.size(path));
+        } catch (IOException e) {
+            metrics.error();
+            throw new UncheckedIOException(e);
+        }
+        metrics.addRowsScanned(users.size());
+        metrics.record(System.nanoTime() - start);
+        return users;
+    }
+
+    @Override
+    public void upsert(User user) {
+        journal.append(CsvUserStore.UPSERT + user.toCSV());
+    }
+
+    @Override
+    public synchronized boolean needsCompaction(int liveUsers) {
+        int garbage = journal.size();
+        return rewrite || (garbage >= COMPACT_MIN_RECORDS && garbage > liveUsers);
+    }
+
+    @Override
+    public synchronized void beginCompaction() {
+        journal.rotate();
+        rewrite = false;
+    }
+
+    @Override
+    public void finishCompaction(List<User> snapshot) {
+        boolean written = CSVHelper.replaceFile(USERS_BIN, stream -> {
+            DataOutputStream out = new DataOutputStream(stream);
+            BinarySnapshot.writeHeader(out, MAGIC, snapshot.size());
+            for (User user : snapshot) {
+                BinarySnapshot.writeString(out, user.getUsername());
+                BinarySnapshot.writeString(out, user.getPasswordHash());
+                BinarySnapshot.writeString(out, user.getEmail());
+                BinarySnapshot.writeString(out, user.getCreatedAt());
+            }
+            out.flush();
+        });
+        if (written) {
+            journal.discardRotated();
+        } else {
+            synchronized (this) {
+                rewrite = true;
+            }
+        }
+    }
+}
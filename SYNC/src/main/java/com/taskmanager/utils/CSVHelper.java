@@ -1,26 +1,67 @@
 package com.taskmanager.utils;
 
 import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskFilter;
 import com.taskmanager.model.User;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 public class CSVHelper {
-    private static final String DATA_DIR = "SYNC/data";
+    // Bisa dipindah dengan -Dsync.data.dir=..., default tetap relatif ke root project
+    static final String DATA_DIR = System.getProperty("sync.data.dir", "SYNC/data");
     private static final String USERS_FILE = DATA_DIR + "/users.csv";
-    private static final String TASKS_FILE = DATA_DIR + "/tasks.csv";
+    static final String TASKS_FILE = DATA_DIR + "/tasks.csv";
+    static final String TASKS_LOG = DATA_DIR + "/tasks.log";
+    static final String USERS_LOG = DATA_DIR + "/users.log";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int READ_BLOCK_SIZE = 4 * 1024 * 1024;
+    static final int TASK_COLUMNS = 10;
+    static final int USER_COLUMNS = 4;
 
     public static void initializeFiles() {
         try {
             Files.createDirectories(Paths.get(DATA_DIR));
             createFileIfNotExists(USERS_FILE);
             createFileIfNotExists(TASKS_FILE);
+            deleteStaleTempFiles();
         } catch (IOException e) {
             e.printStackTrace();
         }
+
+        // Muat data dari store yang dipilih (sync.store), untuk CSV termasuk replay tasks.log/users.log
+        AsyncStore.run(UserRepository::reload);
+        TaskRepository.preload();
+        ReminderScheduler.start();
+    }
+
+    // Sisa snapshot yang belum sempat di-rename saat crash, file aslinya masih utuh
+    private static void deleteStaleTempFiles() throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get(DATA_DIR), "*" + TEMP_SUFFIX)) {
+            for (Path temp : stream) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    public static void flush() {
+        Metrics.time("CSVHelper.flush", () -> {
+            TaskRepository.flush();
+            UserRepository.flush();
+        });
     }
 
     private static void createFileIfNotExists(String filePath) throws IOException {
@@ -31,183 +72,371 @@ public class CSVHelper {
     }
 
     public static void saveUser(User user) {
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(USERS_FILE, true))) {
-            bw.write(user.toCSV());
-            bw.newLine();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        Metrics.time("CSVHelper.saveUser", () -> UserRepository.saveUser(user));
     }
 
     public static User getUserByUsername(String username) {
-        try (BufferedReader br = new BufferedReader(new FileReader(USERS_FILE))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                String[] parts = line.split(",", -1); // -1 to keep empty strings
-                if (parts.length >= 4 && parts[0].equals(username)) {
-                    return new User(parts[0], parts[1], parts[2], parts[3]);
-                }
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return null;
+        return Metrics.time("CSVHelper.getUserByUsername", () -> UserRepository.getUserByUsername(username));
+    }
+
+    public static List<User> getUsersByEmail(String email) {
+        return Metrics.time("CSVHelper.getUsersByEmail", () -> UserRepository.getUsersByEmail(email));
     }
 
     public static boolean userExists(String username) {
-        return getUserByUsername(username) != null;
+        return Metrics.time("CSVHelper.userExists", () -> UserRepository.userExists(username));
     }
 
     public static boolean updateUser(User updatedUser) {
-        List<String> lines = new ArrayList<>();
-        boolean found = false;
+        return Metrics.time("CSVHelper.updateUser", () -> UserRepository.updateUser(updatedUser));
+    }
 
+    static List<User> readAllUsers(List<String> malformedLines) {
+        OperationMetrics metrics = Metrics.operation("CSVHelper.read:users.csv");
+        long start = System.nanoTime();
+        List<User> users = new ArrayList<>();
+        metrics.addBytesRead(new File(USERS_FILE).length());
         try (BufferedReader br = new BufferedReader(new FileReader(USERS_FILE))) {
+            String[] parts = new String[USER_COLUMNS];
             String line;
             while ((line = br.readLine()) != null) {
-                String[] parts = line.split(",", -1);
-                if (parts.length >= 4 && parts[0].equals(updatedUser.getUsername())) {
+                if (line.trim().isEmpty())
+                    continue;
 
-                    lines.add(updatedUser.toCSV());
-                    found = true;
+                User user = parseUserLine(line, 0, parts);
+                if (user != null) {
+                    users.add(user);
                 } else {
-                    lines.add(line);
+                    malformedLines.add(line);
                 }
             }
         } catch (IOException e) {
+            metrics.error();
             e.printStackTrace();
-            return false;
         }
+        metrics.addRowsScanned(users.size() + malformedLines.size());
+        metrics.record(System.nanoTime() - start);
+        return users;
+    }
 
-        if (found) {
-            writeLinesToFile(USERS_FILE, lines);
-            return true;
+    // Record journal "U,..." dibaca mulai kolom 1 tanpa substring; parts dipakai ulang oleh pemanggil
+    static User parseUserLine(CharSequence line, int from, String[] parts) {
+        if (CsvCodec.parse(line, from, parts) < USER_COLUMNS) {
+            return null;
         }
-        return false;
+        return new User(parts[0], parts[1], parts[2], parts[3]);
+    }
+
+    static boolean writeAllUsers(List<String> lines) {
+        return replaceFile(USERS_FILE, lines);
     }
 
     public static void saveTask(Task task) {
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(TASKS_FILE, true))) {
-            bw.write(task.toCSV());
-            bw.newLine();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        Metrics.time("CSVHelper.saveTask", () -> TaskRepository.saveTask(task));
     }
 
     public static List<Task> getTasksByUsername(String username) {
-        List<Task> tasks = new ArrayList<>();
-        try (BufferedReader br = new BufferedReader(new FileReader(TASKS_FILE))) {
-            String line;
-            while ((line = br.readLine()) != null) {
+        return Metrics.time("CSVHelper.getTasksByUsername", () -> TaskRepository.getTasksByUsername(username));
+    }
 
-                if (line.trim().isEmpty())
-                    continue;
+    public static void updateTask(Task updatedTask) {
+        Metrics.time("CSVHelper.updateTask", () -> TaskRepository.updateTask(updatedTask));
+    }
 
-                String[] parts = parseCSVLine(line);
-
-                if (parts.length >= 10 && parts[7].equals(username)) {
-                    Task task = new Task(
-                            parts[0],
-                            parts[1],
-                            parts[2].replace("\\n", "\n"),
-                            parts[3],
-                            parts[4],
-                            parts[5],
-                            Integer.parseInt(parts[6]),
-                            parts[7],
-                            parts[8],
-                            parts.length > 9 ? parts[9] : "" // Ambil deadline dari kolom ke-10
-                    );
-                    tasks.add(task);
-                }
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return tasks;
+    public static void deleteTask(String taskId) {
+        Metrics.time("CSVHelper.deleteTask", () -> TaskRepository.deleteTask(taskId));
     }
 
-    public static void updateTask(Task updatedTask) {
-        List<String> lines = new ArrayList<>();
-        boolean found = false;
+    public static void updateTasksSubject(String oldSubject, String newSubject) {
+        Metrics.time("CSVHelper.updateTasksSubject", () -> TaskRepository.updateTasksSubject(oldSubject, newSubject));
+    }
 
-        try (BufferedReader br = new BufferedReader(new FileReader(TASKS_FILE))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                String[] parts = parseCSVLine(line);
-                if (parts.length > 0 && parts[0].equals(updatedTask.getId())) {
+    public static void renameSubject(String oldSubject, String newSubject) {
+        Metrics.time("CSVHelper.renameSubject", () -> TaskRepository.renameSubject(oldSubject, newSubject));
+    }
 
-                    lines.add(updatedTask.toCSV());
-                    found = true;
-                } else {
-                    lines.add(line);
+    public static int countTasksWithSubject(String subject) {
+        return Metrics.time("CSVHelper.countTasksWithSubject", () -> TaskRepository.countTasksWithSubject(subject));
+    }
+
+    public static TaskStats getTaskStats(String username) {
+        return Metrics.time("CSVHelper.getTaskStats", () -> TaskRepository.getTaskStats(username));
+    }
+
+    public static List<Task> getTasksDueBefore(String username, long untilMillis) {
+        return Metrics.time("CSVHelper.getTasksDueBefore", () -> TaskRepository.getTasksDueBefore(username, untilMillis));
+    }
+
+    public static int countTasksDueBefore(String username, long untilMillis) {
+        return Metrics.time("CSVHelper.countTasksDueBefore", () -> TaskRepository.countTasksDueBefore(username, untilMillis));
+    }
+
+    public static List<Task> searchTasks(String username, String query, TaskFilter filter) {
+        return Metrics.time("CSVHelper.searchTasks", () -> TaskRepository.searchTasks(username, query, filter));
+    }
+
+    public static List<Task> filterTasks(String username, TaskFilter filter) {
+        return Metrics.time("CSVHelper.filterTasks", () -> TaskRepository.filterTasks(username, filter));
+    }
+
+    public static Map<String, Integer> countTasksBySubject(String username, TaskFilter filter) {
+        return Metrics.time("CSVHelper.countTasksBySubject", () -> TaskRepository.countTasksBySubject(username, filter));
+    }
+
+    public static Task getTaskById(String taskId) {
+        return Metrics.time("CSVHelper.getTaskById", () -> TaskRepository.getTaskById(taskId));
+    }
+
+    // index boleh null; kalau diisi, offset dan panjang baris setiap task ikut dicatat
+    static List<Task> readAllTasks(List<String> malformedLines, TaskFileIndex.Builder index) {
+        OperationMetrics metrics = Metrics.operation("CSVHelper.read:tasks.csv");
+        long start = System.nanoTime();
+        List<Task> tasks = readTasksFile(malformedLines, index, metrics);
+        metrics.addRowsScanned(tasks.size() + malformedLines.size());
+        metrics.record(System.nanoTime() - start);
+        return tasks;
+    }
+
+    // tasks.csv dibaca per blok ke buffer heap lewat channel.read; batas blok selalu di akhir baris.
+    // Tidak ada mapping yang menahan file, jadi ATOMIC_MOVE ke tasks.csv tetap jalan di Windows.
+    // Blok di-parse paralel dan hasilnya digabung sesuai urutan file.
+    private static List<Task> readTasksFile(List<String> malformedLines, TaskFileIndex.Builder index,
+            OperationMetrics metrics) {
+        try (FileChannel channel = FileChannel.open(Paths.get(TASKS_FILE), StandardOpenOption.READ)) {
+            long size = channel.size();
+            metrics.addBytesRead(size);
+            List<Long> bounds = new ArrayList<>();
+            bounds.add(0L);
+            for (long pos = 0; pos < size; ) {
+                pos = nextLineStart(channel, Math.min(size, pos + READ_BLOCK_SIZE), size);
+                bounds.add(pos);
+            }
+
+            int blocks = bounds.size() - 1;
+            List<List<Task>> taskBlocks = new ArrayList<>(blocks);
+            List<List<String>> malformedBlocks = new ArrayList<>(blocks);
+            List<TaskFileIndex.Builder> indexBlocks = new ArrayList<>(blocks);
+            for (int b = 0; b < blocks; b++) {
+                taskBlocks.add(new ArrayList<>());
+                malformedBlocks.add(new ArrayList<>());
+                indexBlocks.add(index != null ? new TaskFileIndex.Builder(0) : null);
+            }
+            IntStream.range(0, blocks).parallel().forEach(b -> {
+                byte[] data = readRange(channel, bounds.get(b), bounds.get(b + 1));
+                parseRange(data, bounds.get(b), taskBlocks.get(b), malformedBlocks.get(b), indexBlocks.get(b));
+            });
+
+            int total = 0;
+            for (List<Task> block : taskBlocks) {
+                total += block.size();
+            }
+            List<Task> tasks = new ArrayList<>(total);
+            for (int b = 0; b < blocks; b++) {
+                tasks.addAll(taskBlocks.get(b));
+                malformedLines.addAll(malformedBlocks.get(b));
+                if (index != null) {
+                    index.addAll(indexBlocks.get(b));
                 }
             }
-        } catch (IOException e) {
+            return tasks;
+        } catch (IOException | UncheckedIOException e) {
+            metrics.error();
             e.printStackTrace();
         }
+        return new ArrayList<>();
+    }
 
-        if (found) {
-            writeLinesToFile(TASKS_FILE, lines);
+    // Posisi awal baris pertama yang dimulai di pos atau sesudahnya
+    private static long nextLineStart(FileChannel channel, long pos, long size) throws IOException {
+        ByteBuffer window = ByteBuffer.allocate(4096);
+        long at = pos - 1;
+        while (at < size) {
+            window.clear();
+            int read = channel.read(window, at);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (window.get(i) == '\n') {
+                    return at + i + 1;
+                }
+            }
+            at += read;
         }
+        return size;
     }
 
-    public static void deleteTask(String taskId) {
-        List<String> lines = new ArrayList<>();
-
-        try (BufferedReader br = new BufferedReader(new FileReader(TASKS_FILE))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                String[] parts = parseCSVLine(line);
-                if (parts.length > 0 && !parts[0].equals(taskId)) {
-                    lines.add(line);
+    private static byte[] readRange(FileChannel channel, long from, long to) {
+        byte[] data = new byte[(int) (to - from)];
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, from + buffer.position()) < 0) {
+                    throw new EOFException(TASKS_FILE + " berubah saat dibaca");
                 }
             }
         } catch (IOException e) {
-            e.printStackTrace();
+            throw new UncheckedIOException(e);
         }
+        return data;
+    }
 
-        writeLinesToFile(TASKS_FILE, lines);
+    private static void parseRange(byte[] data, long base, List<Task> tasks, List<String> malformedLines,
+            TaskFileIndex.Builder index) {
+        String[] parts = new String[TASK_COLUMNS];
+        int start = 0;
+        for (int i = 0; i <= data.length; i++) {
+            if (i < data.length && data[i] != '\n') {
+                continue;
+            }
+            int end = i;
+            if (end > start && data[end - 1] == '\r') {
+                end--;
+            }
+            if (end > start) {
+                Task task = addParsedLine(new String(data, start, end - start, StandardCharsets.UTF_8), parts,
+                        tasks, malformedLines);
+                if (task != null && index != null) {
+                    index.add(task.getKey(), base + start, end - start);
+                }
+            }
+            start = i + 1;
+        }
     }
 
-    public static void updateTasksSubject(String oldSubject, String newSubject) {
-        List<String> lines = new ArrayList<>();
+    private static Task addParsedLine(String line, String[] parts, List<Task> tasks, List<String> malformedLines) {
+        if (line.trim().isEmpty())
+            return null;
 
-        try (BufferedReader br = new BufferedReader(new FileReader(TASKS_FILE))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                String[] parts = parseCSVLine(line);
+        Task task = parseTaskLine(line, 0, parts);
+        if (task != null) {
+            tasks.add(task);
+        } else {
+            malformedLines.add(line);
+        }
+        return task;
+    }
 
-                if (parts.length >= 10 && parts[3].equals(oldSubject)) {
+    static Task parseTaskLine(String line) {
+        return parseTaskLine(line, 0, new String[TASK_COLUMNS]);
+    }
 
-                    parts[3] = newSubject;
+    // Kolom sesudah kolom ke-10 diabaikan tanpa di-decode
+    static Task parseTaskLine(CharSequence line, int from, String[] parts) {
+        if (CsvCodec.parse(line, from, parts) < TASK_COLUMNS) {
+            return null;
+        }
+        try {
+            return new Task(
+                    parts[0],
+                    parts[1],
+                    parts[2],
+                    parts[3],
+                    parts[4],
+                    parts[5],
+                    Integer.parseInt(parts[6]),
+                    parts[7],
+                    parts[8],
+                    parts[9]); // Ambil deadline dari kolom ke-10
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 
-                    lines.add(String.join(",", parts));
-                } else {
-                    lines.add(line);
-                }
+    // Byte ditulis sendiri (bukan lewat Writer) supaya offset setiap baris langsung diketahui untuk tasks.idx
+    static boolean writeAllTasks(Collection<Task> tasks, List<String> malformedLines) {
+        TaskFileIndex.Builder index = new TaskFileIndex.Builder(tasks.size());
+        byte[] newline = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+        boolean written = replaceFile(TASKS_FILE, out -> {
+            long offset = 0;
+            for (Task task : tasks) {
+                byte[] line = task.toCSV().getBytes(StandardCharsets.UTF_8);
+                out.write(line);
+                out.write(newline);
+                index.add(task.getKey(), offset, line.length);
+                offset += line.length + newline.length;
             }
-        } catch (IOException e) {
-            e.printStackTrace();
+            // baris rusak tetap disimpan agar tidak hilang saat file ditulis ulang
+            for (String line : malformedLines) {
+                out.write(line.getBytes(StandardCharsets.UTF_8));
+                out.write(newline);
+            }
+        });
+        if (written) {
+            index.write();
         }
+        return written;
+    }
 
-        writeLinesToFile(TASKS_FILE, lines);
+    // Tulis ke file sementara dulu (di-fsync), lalu ganti file lama sekaligus dengan atomic move.
+    // Pembaca tidak pernah melihat file setengah jadi dan crash hanya meninggalkan *.tmp.
+    static boolean replaceFile(String filePath, List<String> lines) {
+        return replaceFile(filePath, out -> {
+            BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            for (String line : lines) {
+                bw.write(line);
+                bw.newLine();
+            }
+            bw.flush();
+        });
     }
 
-    private static String[] parseCSVLine(String line) {
+    interface SnapshotWriter {
+        void write(OutputStream out) throws IOException;
+    }
 
-        return line.split(",", -1);
+    static boolean replaceFile(String filePath, SnapshotWriter writer) {
+        OperationMetrics metrics = Metrics.operation("CSVHelper.replace:" + Paths.get(filePath).getFileName());
+        long start = System.nanoTime();
+        boolean replaced = writeAndReplace(filePath, writer, metrics);
+        if (!replaced) {
+            metrics.error();
+        }
+        metrics.record(System.nanoTime() - start);
+        return replaced;
     }
 
-    private static void writeLinesToFile(String filePath, List<String> lines) {
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(filePath))) {
-            for (String line : lines) {
-                bw.write(line);
-                bw.newLine();
+    private static boolean writeAndReplace(String filePath, SnapshotWriter writer, OperationMetrics metrics) {
+        Path target = Paths.get(filePath);
+        Path temp = Paths.get(filePath + TEMP_SUFFIX);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+            writer.write(out);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+            metrics.addBytesWritten(channel.size());
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException ex) {
+                ex.printStackTrace();
+                return false;
             }
         } catch (IOException e) {
             e.printStackTrace();
+            return false;
+        }
+
+        syncDirectory(target.toAbsolutePath().getParent());
+        return true;
+    }
+
+    private static void syncDirectory(Path directory) {
+        // Tidak semua OS mengizinkan fsync direktori (misalnya Windows), jadi gagal di sini diabaikan
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
         }
     }
 }
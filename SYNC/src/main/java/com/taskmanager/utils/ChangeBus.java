@@ -0,0 +1,49 @@
+package com.taskmanager.utils;
+
+import javafx.application.Platform;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Repository mengumumkan setiap perubahan di sini, view cukup subscribe dan menambal state-nya
+// sendiri tanpa membaca ulang data. Controller unsubscribe saat halamannya diganti. Listener
+// disimpan sebagai weak reference (seperti WeakListener JavaFX) hanya sebagai cadangan, jadi
+// controller tetap harus menyimpan listener-nya di field.
+public class ChangeBus<E> {
+    public static final ChangeBus<TaskEvent> TASKS = new ChangeBus<>();
+    public static final ChangeBus<UserEvent> USERS = new ChangeBus<>();
+    public static final ChangeBus<SubjectEvent> SUBJECTS = new ChangeBus<>();
+    public static final ChangeBus<ReminderEvent> REMINDERS = new ChangeBus<>();
+
+    private final List<WeakReference<Consumer<E>>> listeners = new CopyOnWriteArrayList<>();
+
+    public void subscribe(Consumer<E> listener) {
+        listeners.add(new WeakReference<>(listener));
+    }
+
+    public void unsubscribe(Consumer<E> listener) {
+        listeners.removeIf(ref -> ref.get() == null || ref.get() == listener);
+    }
+
+    // Dipanggil di thread yang melakukan perubahan (biasanya store-io)
+    public void publish(E event) {
+        for (WeakReference<Consumer<E>> ref : listeners) {
+            Consumer<E> listener = ref.get();
+            if (listener == null) {
+                listeners.remove(ref);
+            } else {
+                try {
+                    listener.accept(event);
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    // Bungkus listener supaya dijalankan di JavaFX thread
+    public static <E> Consumer<E> onFx(Consumer<E> listener) {
+        return event -> Platform.runLater(() -> listener.accept(event));
+    }
+}
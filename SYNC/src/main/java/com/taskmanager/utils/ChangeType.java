@@ -0,0 +1,8 @@
+package com.taskmanager.utils;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    SUBJECT_RENAMED
+}
@@ -0,0 +1,250 @@
+package com.taskmanager.utils;
+
+// Encoder/decoder CSV sesuai RFC 4180: field yang berisi koma atau tanda kutip dibungkus "..."
+// dan tanda kutip di dalamnya ditulis dua kali (""). Bedanya, baris baru tidak pernah ditulis apa
+// adanya karena semua pembaca (tasks.csv, journal, users.csv) memecah record per baris: newline
+// ditulis sebagai \n dan \r, backslash sebagai \\, jadi isi field tetap bisa dibaca balik persis.
+public class CsvCodec {
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char ESCAPE = '\\';
+
+    // Semua field sebagai array baru; pembaca yang memproses banyak baris sebaiknya memakai
+    // parse(line, from, fields) dengan array yang dipakai ulang
+    public static String[] parse(CharSequence line) {
+        String[] fields = new String[count(line, 0)];
+        parse(line, 0, fields);
+        return fields;
+    }
+
+    public static int parse(CharSequence line, String[] fields) {
+        return parse(line, 0, fields);
+    }
+
+    // Field mulai kolom from di-decode langsung ke fields[0..]. Field yang tidak muat dilewati tanpa
+    // di-decode. Hasilnya jumlah field mulai kolom from, 0 kalau barisnya tidak sampai kolom itu.
+    public static int parse(CharSequence line, int from, String[] fields) {
+        int pos = fieldStart(line, from);
+        if (pos < 0) {
+            return 0;
+        }
+        int length = line.length();
+        int n = 0;
+        while (true) {
+            int end = fieldEnd(line, pos);
+            if (n < fields.length) {
+                fields[n] = decode(line, pos, end);
+            }
+            n++;
+            if (end >= length) {
+                return n;
+            }
+            pos = end + 1;
+        }
+    }
+
+    // Ambil satu kolom saja, kolom sebelumnya cuma dilewati tanpa membuat String
+    public static String field(CharSequence line, int column) {
+        int start = fieldStart(line, column);
+        if (start < 0) {
+            return null;
+        }
+        return decode(line, start, fieldEnd(line, start));
+    }
+
+    // Bandingkan isi kolom (sesudah quote dan escape dibuka) dengan value tanpa membuat String,
+    // misalnya untuk menolak baris milik user lain sebelum sembilan kolom lainnya di-decode
+    public static boolean fieldEquals(CharSequence line, int column, String value) {
+        int start = fieldStart(line, column);
+        if (start < 0) {
+            return false;
+        }
+        int end = fieldEnd(line, start);
+        boolean quoted = end > start && line.charAt(start) == QUOTE;
+        int matched = 0;
+        for (int i = quoted ? start + 1 : start; i < end; i++) {
+            char c = line.charAt(i);
+            if (quoted && c == QUOTE) {
+                if (i + 1 < end && line.charAt(i + 1) == QUOTE) {
+                    i++;
+                } else {
+                    continue;
+                }
+            } else if (c == ESCAPE && i + 1 < end) {
+                char next = line.charAt(i + 1);
+                if (next == 'n' || next == 'r' || next == ESCAPE) {
+                    c = next == 'n' ? '\n' : next == 'r' ? '\r' : ESCAPE;
+                    i++;
+                }
+            }
+            if (matched >= value.length() || value.charAt(matched) != c) {
+                return false;
+            }
+            matched++;
+        }
+        return matched == value.length();
+    }
+
+    public static String format(String... fields) {
+        int capacity = fields.length;
+        for (String field : fields) {
+            capacity += field != null ? field.length() + 2 : 0;
+        }
+        StringBuilder sb = new StringBuilder(capacity);
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                sb.append(SEPARATOR);
+            }
+            appendField(sb, fields[i]);
+        }
+        return sb.toString();
+    }
+
+    // Field tanpa karakter khusus (kasus umum) disalin sekaligus
+    public static void appendField(StringBuilder sb, String value) {
+        if (value == null) {
+            return;
+        }
+        int first = 0;
+        int length = value.length();
+        while (first < length && !isSpecial(value.charAt(first))) {
+            first++;
+        }
+        if (first == length) {
+            sb.append(value);
+            return;
+        }
+
+        boolean quote = false;
+        for (int i = first; i < length && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == SEPARATOR || c == QUOTE;
+        }
+        if (quote) {
+            sb.append(QUOTE);
+        }
+        sb.append(value, 0, first);
+        for (int i = first; i < length; i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case QUOTE -> sb.append(QUOTE).append(QUOTE);
+                case '\n' -> sb.append(ESCAPE).append('n');
+                case '\r' -> sb.append(ESCAPE).append('r');
+                case ESCAPE -> sb.append(ESCAPE).append(ESCAPE);
+                default -> sb.append(c);
+            }
+        }
+        if (quote) {
+            sb.append(QUOTE);
+        }
+    }
+
+    // Semua karakter khusus <= '\\', jadi huruf kecil cukup satu perbandingan
+    private static boolean isSpecial(char c) {
+        return c <= ESCAPE && (c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r' || c == ESCAPE);
+    }
+
+    private static int count(CharSequence line, int from) {
+        int pos = fieldStart(line, from);
+        if (pos < 0) {
+            return 0;
+        }
+        int n = 1;
+        for (int end = fieldEnd(line, pos); end < line.length(); end = fieldEnd(line, end + 1)) {
+            n++;
+        }
+        return n;
+    }
+
+    // Posisi awal kolom ke-column, atau -1 kalau baris tidak punya kolom sebanyak itu
+    private static int fieldStart(CharSequence line, int column) {
+        int pos = 0;
+        for (int c = 0; c < column; c++) {
+            int end = fieldEnd(line, pos);
+            if (end >= line.length()) {
+                return -1;
+            }
+            pos = end + 1;
+        }
+        return pos;
+    }
+
+    // Posisi koma penutup field (atau panjang line kalau field terakhir)
+    private static int fieldEnd(CharSequence line, int start) {
+        int length = line.length();
+        int i = start;
+        if (start < length && line.charAt(start) == QUOTE) {
+            i = start + 1;
+            while (i < length) {
+                int quote = indexOf(line, QUOTE, i, length);
+                if (quote < 0) {
+                    return length;
+                }
+                if (quote + 1 < length && line.charAt(quote + 1) == QUOTE) {
+                    i = quote + 2;
+                } else {
+                    i = quote + 1;
+                    break;
+                }
+            }
+        }
+        int end = indexOf(line, SEPARATOR, i, length);
+        return end < 0 ? length : end;
+    }
+
+    // Escape yang tidak dikenal (mis. "C:\data" dari file lama) dibiarkan apa adanya
+    private static String decode(CharSequence line, int start, int end) {
+        if (end <= start) {
+            return "";
+        }
+        boolean quoted = line.charAt(start) == QUOTE;
+        int run = quoted ? start + 1 : start;
+        int i = nextSpecial(line, run, end, quoted);
+        if (i == end && !quoted) {
+            return line.subSequence(start, end).toString();
+        }
+
+        // Potongan di antara tanda kutip/escape disalin sekaligus
+        StringBuilder sb = new StringBuilder(end - start);
+        while (i < end) {
+            if (line.charAt(i) == QUOTE) {
+                sb.append(line, run, i);
+                if (i + 1 < end && line.charAt(i + 1) == QUOTE) {
+                    sb.append(QUOTE);
+                    i++;
+                }
+                run = i + 1;
+            } else if (i + 1 < end) {
+                char next = line.charAt(i + 1);
+                if (next == 'n' || next == 'r' || next == ESCAPE) {
+                    sb.append(line, run, i).append(next == 'n' ? '\n' : next == 'r' ? '\r' : ESCAPE);
+                    i++;
+                    run = i + 1;
+                }
+            }
+            i = nextSpecial(line, i + 1, end, quoted);
+        }
+        return sb.append(line, run, end).toString();
+    }
+
+    // Posisi backslash atau (di field ber-quote) tanda kutip berikutnya, end kalau tidak ada
+    private static int nextSpecial(CharSequence line, int from, int end, boolean quoted) {
+        int escape = indexOf(line, ESCAPE, from, end);
+        int limit = escape < 0 ? end : escape;
+        int quote = quoted ? indexOf(line, QUOTE, from, limit) : -1;
+        return quote >= 0 ? quote : limit;
+    }
+
+    // String.indexOf (intrinsic) jauh lebih cepat daripada charAt satu per satu
+    private static int indexOf(CharSequence line, char c, int from, int to) {
+        if (line instanceof String string) {
+            return from < to ? string.indexOf(c, from, to) : -1;
+        }
+        for (int i = from; i < to; i++) {
+            if (line.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
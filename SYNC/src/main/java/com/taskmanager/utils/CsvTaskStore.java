@@ -0,0 +1,220 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.Task;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// tasks.csv sebagai snapshot + tasks.log sebagai journal (mode "log"),
+// atau tasks.csv ditulis ulang setiap ada perubahan (mode "rewrite").
+public class CsvTaskStore implements TaskStore {
+    private static final int COMPACT_MIN_RECORDS = 1000;
+    static final String UPSERT = "U,";
+    static final String DELETE = "D,";
+    static final String RENAME = "R,";
+
+    private final boolean logMode;
+    private final AppendLog taskLog;
+    private final WriteBehindQueue writeQueue;
+    private final List<String> malformedLines = new ArrayList<>();
+    private boolean dirty = false;
+    // Dibaca tanpa lock oleh read(), jadi volatile
+    private volatile TaskFileIndex fileIndex;
+    // Dibangun oleh read() pertama, dibuang setiap kali journal berubah
+    private volatile TaskJournalIndex journalIndex;
+
+    public CsvTaskStore(boolean logMode, long flushMillis, int flushBatch) {
+        this.logMode = logMode;
+        this.taskLog = new AppendLog(CSVHelper.TASKS_LOG);
+        // Mode rewrite tidak menulis journal, jadi tidak perlu antrian
+        this.writeQueue = logMode ? new WriteBehindQueue(taskLog, flushMillis, flushBatch) : null;
+    }
+
+    @Override
+    public synchronized List<Task> loadAll() {
+        malformedLines.clear();
+        Map<Long, Task> tasks = new LinkedHashMap<>();
+
+        // tasks.idx dibangun sekalian kalau belum ada atau sudah basi
+        TaskFileIndex.Builder rebuild = TaskFileIndex.load() == null ? new TaskFileIndex.Builder(0) : null;
+        for (Task task : CSVHelper.readAllTasks(malformedLines, rebuild)) {
+            tasks.put(task.getKey(), task);
+        }
+        if (rebuild != null) {
+            rebuild.write();
+        }
+
+        replay(tasks, taskLog.readAll());
+        return new ArrayList<>(tasks.values());
+    }
+
+    // tasks.csv + tasks.log tanpa membuat store dan antriannya, untuk migrasi sekali ke binary/jdbc
+    static List<Task> readFiles() {
+        Map<Long, Task> tasks = new LinkedHashMap<>();
+        for (Task task : CSVHelper.readAllTasks(new ArrayList<>(), null)) {
+            tasks.put(task.getKey(), task);
+        }
+        replay(tasks, new AppendLog(CSVHelper.TASKS_LOG).readAll());
+        return new ArrayList<>(tasks.values());
+    }
+
+    // Record journal (U/D/R) diterapkan berurutan; dipakai juga oleh journal BinaryTaskStore.
+    // Isi record di-decode mulai kolom 1 (sesudah jenis record) tanpa substring.
+    static void replay(Map<Long, Task> tasks, List<String> records) {
+        String[] parts = new String[CSVHelper.TASK_COLUMNS];
+        String[] names = new String[2];
+        for (String record : records) {
+            if (record.startsWith(UPSERT)) {
+                Task task = CSVHelper.parseTaskLine(record, 1, parts);
+                if (task != null) {
+                    tasks.put(task.getKey(), task);
+                }
+            } else if (record.startsWith(DELETE)) {
+                try {
+                    tasks.remove(TaskIds.parse(record.substring(DELETE.length())));
+                } catch (NumberFormatException ignored) {
+                }
+            } else if (record.startsWith(RENAME)) {
+                if (CsvCodec.parse(record, 1, names) == 2) {
+                    for (Task task : tasks.values()) {
+                        if (names[0].equals(task.getCategory())) {
+                            task.setCategory(names[1]);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // Satu task tanpa loadAll: record terakhirnya di journal lewat TaskJournalIndex, atau barisnya di
+    // tasks.csv lewat tasks.idx kalau belum pernah diubah sejak compaction. Tidak synchronized supaya
+    // tidak ikut menunggu loadAll yang sedang berjalan. null juga berarti "tidak tahu": pemanggil
+    // menunggu load selesai.
+    @Override
+    public Task read(String taskId) {
+        long key;
+        try {
+            key = TaskIds.parse(taskId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        TaskJournalIndex journal = journalIndex;
+        if (journal == null) {
+            journal = TaskJournalIndex.build(taskLog);
+            journalIndex = journal;
+        }
+
+        int entry = journal.entry(key);
+        Task task = entry == LongIntMap.MISSING ? readFromFile(key) : readFromJournal(journal, entry, key);
+        if (task != null) {
+            journal.applyRenames(task, entry);
+        }
+        return task;
+    }
+
+    private Task readFromJournal(TaskJournalIndex journal, int entry, long key) {
+        if (journal.isDeleted(entry)) {
+            return null;
+        }
+        String record = journal.record(taskLog, entry);
+        // Kolom id dicek tanpa decode sebelum seluruh record di-parse
+        Task task = record != null && CsvCodec.fieldEquals(record, 1, TaskIds.format(key))
+                ? CSVHelper.parseTaskLine(record, 1, new String[CSVHelper.TASK_COLUMNS])
+                : null;
+        if (task == null) {
+            journalIndex = null;
+        }
+        return task;
+    }
+
+    private Task readFromFile(long key) {
+        TaskFileIndex index = fileIndex;
+        if (index == null || !index.isCurrent()) {
+            index = TaskFileIndex.load();
+            fileIndex = index;
+            if (index == null) {
+                return null;
+            }
+        }
+        try {
+            return index.read(key);
+        } catch (IOException e) {
+            fileIndex = null;
+            return null;
+        }
+    }
+
+    @Override
+    public synchronized void upsert(Task task) {
+        if (logMode) {
+            journalIndex = null;
+            writeQueue.submit(task.getId(), UPSERT + task.toCSV());
+        } else {
+            dirty = true;
+        }
+    }
+
+    @Override
+    public synchronized void delete(String taskId) {
+        if (logMode) {
+            journalIndex = null;
+            writeQueue.submit(taskId, DELETE + taskId);
+        } else {
+            dirty = true;
+        }
+    }
+
+    // Mode log: satu record rename, bukan satu record per task. Antrian di-flush dulu supaya
+    // upsert yang masih membawa nama lama tertulis sebelum record ini.
+    @Override
+    public synchronized void renameSubject(String oldName, String newName) {
+        if (logMode) {
+            journalIndex = null;
+            writeQueue.flush();
+            taskLog.append(RENAME + CsvCodec.format(oldName, newName));
+        } else {
+            dirty = true;
+        }
+    }
+
+    // Mode log: compaction kalau log sudah lebih besar dari jumlah task
+    @Override
+    public synchronized boolean needsCompaction(int liveTasks) {
+        if (!logMode) {
+            return dirty;
+        }
+        int garbage = taskLog.size();
+        return garbage >= COMPACT_MIN_RECORDS && garbage > liveTasks;
+    }
+
+    @Override
+    public synchronized void beginCompaction() {
+        if (logMode) {
+            journalIndex = null;
+            taskLog.rotate();
+        } else {
+            dirty = false;
+        }
+    }
+
+    @Override
+    public void finishCompaction(List<Task> snapshot) {
+        List<String> malformedSnapshot;
+        synchronized (this) {
+            malformedSnapshot = new ArrayList<>(malformedLines);
+        }
+        if (CSVHelper.writeAllTasks(snapshot, malformedSnapshot) && logMode) {
+            journalIndex = null;
+            taskLog.discardRotated();
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (writeQueue != null) {
+            writeQueue.flush();
+        }
+    }
+}
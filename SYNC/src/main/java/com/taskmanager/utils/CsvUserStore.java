@@ -0,0 +1,83 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.User;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// users.csv sebagai snapshot + users.log sebagai journal
+public class CsvUserStore implements UserStore {
+    private static final int COMPACT_MIN_RECORDS = 200;
+    static final String UPSERT = "U,";
+
+    private final AppendLog userLog = new AppendLog(CSVHelper.USERS_LOG);
+    private final List<String> malformedLines = new ArrayList<>();
+
+    @Override
+    public synchronized List<User> loadAll() {
+        malformedLines.clear();
+        Map<String, User> users = new LinkedHashMap<>();
+
+        for (User user : CSVHelper.readAllUsers(malformedLines)) {
+            users.put(user.getUsername(), user);
+        }
+
+        replay(users, userLog.readAll());
+        return new ArrayList<>(users.values());
+    }
+
+    // users.csv + users.log tanpa membuat store, untuk migrasi sekali ke binary/jdbc
+    static List<User> readFiles() {
+        Map<String, User> users = new LinkedHashMap<>();
+        for (User user : CSVHelper.readAllUsers(new ArrayList<>())) {
+            users.put(user.getUsername(), user);
+        }
+        replay(users, new AppendLog(CSVHelper.USERS_LOG).readAll());
+        return new ArrayList<>(users.values());
+    }
+
+    // Dipakai juga oleh journal BinaryUserStore
+    static void replay(Map<String, User> users, List<String> records) {
+        String[] parts = new String[CSVHelper.USER_COLUMNS];
+        for (String record : records) {
+            if (record.startsWith(UPSERT)) {
+                User user = CSVHelper.parseUserLine(record, 1, parts);
+                if (user != null) {
+                    users.put(user.getUsername(), user);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void upsert(User user) {
+        userLog.append(UPSERT + user.toCSV());
+    }
+
+    @Override
+    public boolean needsCompaction(int liveUsers) {
+        int garbage = userLog.size();
+        return garbage >= COMPACT_MIN_RECORDS && garbage > liveUsers;
+    }
+
+    @Override
+    public void beginCompaction() {
+        userLog.rotate();
+    }
+
+    @Override
+    public void finishCompaction(List<User> snapshot) {
+        List<String> lines = new ArrayList<>(snapshot.size() + malformedLines.size());
+        for (User user : snapshot) {
+            lines.add(user.toCSV());
+        }
+        synchronized (this) {
+            lines.addAll(malformedLines);
+        }
+
+        if (CSVHelper.writeAllUsers(lines)) {
+            userLog.discardRotated();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.Task;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Task yang belum done diurutkan per deadline (epoch millis) supaya pertanyaan seperti
+// "deadline sebelum besok" atau "deadline berikutnya setelah jam X" cukup O(log n + hasil).
+// Task dengan deadline yang sama (biasanya per menit) dikumpulkan di satu bucket.
+class DeadlineIndex {
+    private final TreeMap<Long, List<Task>> byDeadline = new TreeMap<>();
+    private int size = 0;
+
+    void add(long deadline, Task task) {
+        byDeadline.computeIfAbsent(deadline, k -> new ArrayList<>(1)).add(task);
+        size++;
+    }
+
+    // Dicari berdasarkan identitas, task bisa saja sudah diubah di tempat
+    void remove(long deadline, Task task) {
+        List<Task> bucket = byDeadline.get(deadline);
+        if (bucket == null) {
+            return;
+        }
+        for (int i = 0; i < bucket.size(); i++) {
+            if (bucket.get(i) == task) {
+                bucket.remove(i);
+                size--;
+                if (bucket.isEmpty()) {
+                    byDeadline.remove(deadline);
+                }
+                return;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    // Rentang setengah terbuka [from, to)
+    int countBetween(long from, long to) {
+        if (from >= to) {
+            return 0;
+        }
+        int count = 0;
+        for (List<Task> bucket : byDeadline.subMap(from, true, to, false).values()) {
+            count += bucket.size();
+        }
+        return count;
+    }
+
+    int countBefore(long to) {
+        return countBetween(Long.MIN_VALUE, to);
+    }
+
+    void collectBetween(long from, long to, List<Task> result) {
+        if (from >= to) {
+            return;
+        }
+        for (List<Task> bucket : byDeadline.subMap(from, true, to, false).values()) {
+            result.addAll(bucket);
+        }
+    }
+
+    // Deadline terkecil yang >= millis, Long.MAX_VALUE kalau tidak ada
+    long firstAtOrAfter(long millis) {
+        Map.Entry<Long, List<Task>> entry = byDeadline.ceilingEntry(millis);
+        return entry != null ? entry.getKey() : Long.MAX_VALUE;
+    }
+
+    void clear() {
+        byDeadline.clear();
+        size = 0;
+    }
+}
@@ -0,0 +1,100 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.TaskPriority;
+import com.taskmanager.model.TaskStatus;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Bitmap slot per nilai facet (status, priority, subject, owner, tanpa deadline) untuk filter board.
+// Di-update bersama statistik dari facets yang sudah dikemas UserTaskStats.
+class FacetIndex {
+    private final SlotBitmap[] byStatus = newBitmaps(TaskStatus.values().length);
+    private final SlotBitmap[] byPriority = newBitmaps(TaskPriority.values().length);
+    // index = id subject + 1 (0 untuk tanpa subject), sama seperti UserTaskStats
+    private final List<SlotBitmap> bySubject = new ArrayList<>();
+    private final List<SlotBitmap> byOwner = new ArrayList<>();
+    private final SlotBitmap withoutDeadline = new SlotBitmap();
+    private static final SlotBitmap EMPTY = new SlotBitmap();
+
+    private static SlotBitmap[] newBitmaps(int count) {
+        SlotBitmap[] bitmaps = new SlotBitmap[count];
+        for (int i = 0; i < count; i++) {
+            bitmaps[i] = new SlotBitmap();
+        }
+        return bitmaps;
+    }
+
+    private static SlotBitmap at(List<SlotBitmap> bitmaps, int index) {
+        while (bitmaps.size() <= index) {
+            bitmaps.add(new SlotBitmap());
+        }
+        return bitmaps.get(index);
+    }
+
+    void add(int slot, int facets, int ownerId, boolean hasDeadline) {
+        byStatus[UserTaskStats.statusOf(facets)].add(slot);
+        byPriority[UserTaskStats.priorityOf(facets)].add(slot);
+        at(bySubject, UserTaskStats.subjectOf(facets)).add(slot);
+        at(byOwner, ownerId).add(slot);
+        if (!hasDeadline) {
+            withoutDeadline.add(slot);
+        }
+    }
+
+    void remove(int slot, int facets, int ownerId, boolean hasDeadline) {
+        byStatus[UserTaskStats.statusOf(facets)].remove(slot);
+        byPriority[UserTaskStats.priorityOf(facets)].remove(slot);
+        at(bySubject, UserTaskStats.subjectOf(facets)).remove(slot);
+        at(byOwner, ownerId).remove(slot);
+        if (!hasDeadline) {
+            withoutDeadline.remove(slot);
+        }
+    }
+
+    void clear() {
+        for (SlotBitmap bitmap : byStatus) {
+            bitmap.clear();
+        }
+        for (SlotBitmap bitmap : byPriority) {
+            bitmap.clear();
+        }
+        bySubject.clear();
+        byOwner.clear();
+        withoutDeadline.clear();
+    }
+
+    SlotBitmap status(TaskStatus status) {
+        return byStatus[status.ordinal()];
+    }
+
+    SlotBitmap priority(TaskPriority priority) {
+        return byPriority[priority.ordinal()];
+    }
+
+    SlotBitmap subject(int subjectId) {
+        return subjectId + 1 < bySubject.size() ? bySubject.get(subjectId + 1) : EMPTY;
+    }
+
+    SlotBitmap owner(int ownerId) {
+        return ownerId >= 0 && ownerId < byOwner.size() ? byOwner.get(ownerId) : EMPTY;
+    }
+
+    SlotBitmap withoutDeadline() {
+        return withoutDeadline;
+    }
+
+    // Hitungan per subject dari irisan bitmap, tanpa membaca task
+    Map<String, Integer> countBySubject(SlotBitmap base) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (int i = 0; i < bySubject.size(); i++) {
+            int count = SlotBitmap.andCardinality(base, bySubject.get(i));
+            if (count > 0) {
+                String name = StringDictionary.SUBJECTS.valueOf(i - 1);
+                counts.merge(name != null ? name : "", count, Integer::sum);
+            }
+        }
+        return counts;
+    }
+}
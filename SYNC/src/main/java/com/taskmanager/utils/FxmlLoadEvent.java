@@ -0,0 +1,28 @@
+package com.taskmanager.utils;
+
+import java.io.IOException;
+import javafx.fxml.FXMLLoader;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.taskmanager.FxmlLoad")
+@Label("FXML Load")
+@Category({"SYNC", "UI"})
+@Description("FXMLLoader.load termasuk initialize() controller-nya, di JavaFX thread")
+public class FxmlLoadEvent extends TraceEvent {
+    @Label("FXML")
+    public String fxml;
+
+    public static <T> T load(FXMLLoader loader, String fxml) throws IOException {
+        FxmlLoadEvent event = new FxmlLoadEvent();
+        event.fxml = fxml;
+        event.start();
+        try {
+            return loader.load();
+        } finally {
+            event.finish();
+        }
+    }
+}
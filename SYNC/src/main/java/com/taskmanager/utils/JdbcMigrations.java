@@ -0,0 +1,44 @@
+package com.taskmanager.utils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+
+// Tabel sync_meta mencatat migrasi dari file CSV yang sudah selesai. Tanpa catatan ini tabel yang
+// memang kosong (semua task dihapus) akan diisi ulang dari tasks.csv setiap kali aplikasi start.
+final class JdbcMigrations {
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS sync_meta ("
+            + "name VARCHAR(64) PRIMARY KEY, done_at VARCHAR(32))";
+    private static final String SELECT = "SELECT done_at FROM sync_meta WHERE name = ?";
+    private static final String INSERT = "INSERT INTO sync_meta (name, done_at) VALUES (?, ?)";
+
+    private JdbcMigrations() {
+    }
+
+    static void createTable(Connection conn) throws SQLException {
+        try (Statement statement = conn.createStatement()) {
+            statement.execute(CREATE_TABLE);
+        }
+    }
+
+    static boolean isDone(Connection conn, String name) throws SQLException {
+        try (PreparedStatement select = conn.prepareStatement(SELECT)) {
+            select.setString(1, name);
+            try (ResultSet rs = select.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    // Dipanggil di transaksi yang sama dengan insert hasil migrasi
+    static void markDone(Connection conn, String name) throws SQLException {
+        try (PreparedStatement insert = conn.prepareStatement(INSERT)) {
+            insert.setString(1, name);
+            insert.setString(2, Instant.now().toString());
+            insert.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.Task;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+// Database embedded (H2, SQLite, ...) lewat JDBC biasa. Driver-nya cukup ada di classpath/module path
+// saat runtime, URL diatur dengan -Dsync.store.jdbc.url=...
+public class JdbcTaskStore implements TaskStore {
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS tasks ("
+            + "id VARCHAR(64) PRIMARY KEY, title VARCHAR(1024), description VARCHAR(65535), "
+            + "category VARCHAR(255), priority VARCHAR(32), status VARCHAR(32), progress INT, "
+            + "created_by VARCHAR(255), created_at VARCHAR(32), deadline VARCHAR(32), position BIGINT)";
+    private static final String SELECT_ALL = "SELECT id, title, description, category, priority, status, "
+            + "progress, created_by, created_at, deadline, position FROM tasks ORDER BY position";
+    private static final String UPDATE = "UPDATE tasks SET title = ?, description = ?, category = ?, "
+            + "priority = ?, status = ?, progress = ?, created_by = ?, created_at = ?, deadline = ? WHERE id = ?";
+    private static final String INSERT = "INSERT INTO tasks (title, description, category, priority, status, "
+            + "progress, created_by, created_at, deadline, id, position) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String DELETE = "DELETE FROM tasks WHERE id = ?";
+    private static final String RENAME_SUBJECT = "UPDATE tasks SET category = ? WHERE category = ?";
+    private static final String MIGRATION = "tasks.csv";
+
+    private final String url;
+    private Connection connection;
+    // Urutan board disimpan di kolom position, task baru selalu di belakang
+    private long nextPosition = 0;
+
+    public JdbcTaskStore(String url) {
+        this.url = url;
+    }
+
+    private Connection connection() throws SQLException {
+        if (connection == null || connection.isClosed()) {
+            connection = DriverManager.getConnection(url);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_TABLE);
+            }
+            JdbcMigrations.createTable(connection);
+        }
+        return connection;
+    }
+
+    @Override
+    public synchronized List<Task> loadAll() {
+        OperationMetrics metrics = Metrics.operation("JdbcTaskStore.loadAll");
+        long start = System.nanoTime();
+        List<Task> tasks = new ArrayList<>();
+        try (Statement statement = connection().createStatement();
+             ResultSet rs = statement.executeQuery(SELECT_ALL)) {
+            while (rs.next()) {
+                tasks.add(new Task(rs.getString(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                        rs.getString(5), rs.getString(6), rs.getInt(7), rs.getString(8),
+                        rs.getString(9), rs.getString(10)));
+                nextPosition = Math.max(nextPosition, rs.getLong(11) + 1);
+            }
+            metrics.addRowsScanned(tasks.size());
+            metrics.record(System.nanoTime() - start);
+        } catch (SQLException e) {
+            metrics.error();
+            e.printStackTrace();
+            return tasks;
+        }
+
+        // Sekali saja: isi dari tasks.csv + tasks.log lalu dicatat di sync_meta. Tabel yang sudah
+        // berisi (database dari sebelum ada sync_meta) hanya dicatat, tidak diisi ulang.
+        try {
+            if (!JdbcMigrations.isDone(connection(), MIGRATION)) {
+                List<Task> imported = tasks.isEmpty() ? CsvTaskStore.readFiles() : new ArrayList<>();
+                // Rollback: database tetap kosong, jadi hasil import juga tidak dipakai
+                if (migrate(imported)) {
+                    tasks.addAll(imported);
+                }
+            }
+        } catch (SQLException e) {
+            Metrics.operation("JdbcTaskStore.migrate").error();
+            e.printStackTrace();
+        }
+        return tasks;
+    }
+
+    // true kalau import dan tanda selesainya ter-commit
+    private boolean migrate(List<Task> tasks) {
+        long firstPosition = nextPosition;
+        try {
+            Connection conn = connection();
+            conn.setAutoCommit(false);
+            try (PreparedStatement insert = conn.prepareStatement(INSERT)) {
+                for (Task task : tasks) {
+                    bind(insert, task);
+                    insert.setLong(11, nextPosition++);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+                JdbcMigrations.markDone(conn, MIGRATION);
+                conn.commit();
+                return true;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            nextPosition = firstPosition;
+            Metrics.operation("JdbcTaskStore.migrate").error();
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized void upsert(Task task) {
+        try {
+            Connection conn = connection();
+            try (PreparedStatement update = conn.prepareStatement(UPDATE)) {
+                bind(update, task);
+                if (update.executeUpdate() > 0) {
+                    return;
+                }
+            }
+            try (PreparedStatement insert = conn.prepareStatement(INSERT)) {
+                bind(insert, task);
+                insert.setLong(11, nextPosition++);
+                insert.executeUpdate();
+            }
+        } catch (SQLException e) {
+            Metrics.operation("JdbcTaskStore.upsert").error();
+            e.printStackTrace();
+        }
+    }
+
+    // Urutan parameter sama untuk UPDATE dan INSERT, id selalu di posisi 10
+    private static void bind(PreparedStatement statement, Task task) throws SQLException {
+        statement.setString(1, task.getTitle());
+        statement.setString(2, task.getDescription());
+        statement.setString(3, task.getCategory());
+        statement.setString(4, task.getPriority().label());
+        statement.setString(5, task.getStatus().code());
+        statement.setInt(6, task.getProgress());
+        statement.setString(7, task.getCreatedBy());
+        statement.setString(8, task.getCreatedAt());
+        statement.setString(9, task.getDeadline());
+        statement.setString(10, task.getId());
+    }
+
+    @Override
+    public synchronized void delete(String taskId) {
+        try (PreparedStatement delete = connection().prepareStatement(DELETE)) {
+            delete.setString(1, taskId);
+            delete.executeUpdate();
+        } catch (SQLException e) {
+            Metrics.operation("JdbcTaskStore.delete").error();
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    public synchronized void renameSubject(String oldName, String newName) {
+        try (PreparedStatement rename = connection().prepareStatement(RENAME_SUBJECT)) {
+            rename.setString(1, newName);
+            rename.setString(2, oldName);
+            rename.executeUpdate();
+        } catch (SQLException e) {
+            Metrics.operation("JdbcTaskStore.renameSubject").error();
+            e.printStackTrace();
+        }
+    }
+}
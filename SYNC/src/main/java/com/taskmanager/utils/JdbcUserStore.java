@@ -0,0 +1,137 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.User;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+// Pasangan JdbcTaskStore untuk tabel users
+public class JdbcUserStore implements UserStore {
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS users ("
+            + "username VARCHAR(255) PRIMARY KEY, password_hash VARCHAR(255), email VARCHAR(255), "
+            + "created_at VARCHAR(32), position BIGINT)";
+    private static final String SELECT_ALL = "SELECT username, password_hash, email, created_at, position "
+            + "FROM users ORDER BY position";
+    private static final String UPDATE = "UPDATE users SET password_hash = ?, email = ?, created_at = ? "
+            + "WHERE username = ?";
+    private static final String INSERT = "INSERT INTO users (password_hash, email, created_at, username, position) "
+            + "VALUES (?, ?, ?, ?, ?)";
+    private static final String MIGRATION = "users.csv";
+
+    private final String url;
+    private Connection connection;
+    private long nextPosition = 0;
+
+    public JdbcUserStore(String url) {
+        this.url = url;
+    }
+
+    private Connection connection() throws SQLException {
+        if (connection == null || connection.isClosed()) {
+            connection = DriverManager.getConnection(url);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_TABLE);
+            }
+            JdbcMigrations.createTable(connection);
+        }
+        return connection;
+    }
+
+    @Override
+    public synchronized List<User> loadAll() {
+        OperationMetrics metrics = Metrics.operation("JdbcUserStore.loadAll");
+        long start = System.nanoTime();
+        List<User> users = new ArrayList<>();
+        try (Statement statement = connection().createStatement();
+             ResultSet rs = statement.executeQuery(SELECT_ALL)) {
+            while (rs.next()) {
+                users.add(new User(rs.getString(1), rs.getString(2), rs.getString(3), rs.getString(4)));
+                nextPosition = Math.max(nextPosition, rs.getLong(5) + 1);
+            }
+            metrics.addRowsScanned(users.size());
+            metrics.record(System.nanoTime() - start);
+        } catch (SQLException e) {
+            metrics.error();
+            e.printStackTrace();
+            return users;
+        }
+
+        // Sama dengan JdbcTaskStore: migrasi sekali, dicatat di sync_meta
+        try {
+            if (!JdbcMigrations.isDone(connection(), MIGRATION)) {
+                List<User> imported = users.isEmpty() ? CsvUserStore.readFiles() : new ArrayList<>();
+                // Rollback: database tetap kosong, jadi hasil import juga tidak dipakai
+                if (migrate(imported)) {
+                    users.addAll(imported);
+                }
+            }
+        } catch (SQLException e) {
+            Metrics.operation("JdbcUserStore.migrate").error();
+            e.printStackTrace();
+        }
+        return users;
+    }
+
+    // true kalau import dan tanda selesainya ter-commit
+    private boolean migrate(List<User> users) {
+        long firstPosition = nextPosition;
+        try {
+            Connection conn = connection();
+            conn.setAutoCommit(false);
+            try (PreparedStatement insert = conn.prepareStatement(INSERT)) {
+                for (User user : users) {
+                    bind(insert, user);
+                    insert.setLong(5, nextPosition++);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+                JdbcMigrations.markDone(conn, MIGRATION);
+                conn.commit();
+                return true;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            nextPosition = firstPosition;
+            Metrics.operation("JdbcUserStore.migrate").error();
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized void upsert(User user) {
+        try {
+            Connection conn = connection();
+            try (PreparedStatement update = conn.prepareStatement(UPDATE)) {
+                bind(update, user);
+                if (update.executeUpdate() > 0) {
+                    return;
+                }
+            }
+            try (PreparedStatement insert = conn.prepareStatement(INSERT)) {
+                bind(insert, user);
+                insert.setLong(5, nextPosition++);
+                insert.executeUpdate();
+            }
+        } catch (SQLException e) {
+            Metrics.operation("JdbcUserStore.upsert").error();
+            e.printStackTrace();
+        }
+    }
+
+    private static void bind(PreparedStatement statement, User user) throws SQLException {
+        statement.setString(1, user.getPasswordHash());
+        statement.setString(2, user.getEmail());
+        statement.setString(3, user.getCreatedAt());
+        statement.setString(4, user.getUsername());
+    }
+}
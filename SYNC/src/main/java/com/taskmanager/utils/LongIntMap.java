@@ -0,0 +1,119 @@
+package com.taskmanager.utils;
+
+import java.util.Arrays;
+
+// Map long -> int dengan open addressing (linear probing), tanpa boxing dan tanpa objek Entry.
+// Key harus >= 0, nilai -1 dipakai sebagai "tidak ada".
+public class LongIntMap {
+    public static final int MISSING = -1;
+    private static final long EMPTY = -1L;
+
+    private long[] keys;
+    private int[] values;
+    private int size = 0;
+
+    public LongIntMap() {
+        this(16);
+    }
+
+    public LongIntMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, expected * 2 - 1)) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private int slotOf(long key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    public int get(long key) {
+        if (key < 0) {
+            return MISSING;
+        }
+        int slot = slotOf(key);
+        return keys[slot] == key ? values[slot] : MISSING;
+    }
+
+    public boolean containsKey(long key) {
+        return key >= 0 && keys[slotOf(key)] == key;
+    }
+
+    public void put(long key, int value) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Negative key: " + key);
+        }
+        int slot = slotOf(key);
+        if (keys[slot] != key) {
+            keys[slot] = key;
+            if (++size * 2 > keys.length) {
+                values[slot] = value;
+                resize();
+                return;
+            }
+        }
+        values[slot] = value;
+    }
+
+    public int remove(long key) {
+        if (key < 0) {
+            return MISSING;
+        }
+        int slot = slotOf(key);
+        if (keys[slot] != key) {
+            return MISSING;
+        }
+        int removed = values[slot];
+        size--;
+
+        // Backward shift: geser entry setelahnya supaya rantai probing tidak putus (tanpa tombstone)
+        int mask = keys.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+        return removed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new int[oldKeys.length * 2];
+        Arrays.fill(keys, EMPTY);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.Task;
+import java.util.ArrayList;
+import java.util.List;
+
+// Tidak menyentuh disk sama sekali, untuk test dan benchmark
+public class MemoryTaskStore implements TaskStore {
+    private final List<Task> seed;
+
+    public MemoryTaskStore() {
+        this(new ArrayList<>());
+    }
+
+    public MemoryTaskStore(List<Task> seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public List<Task> loadAll() {
+        return new ArrayList<>(seed);
+    }
+
+    @Override
+    public void upsert(Task task) {
+    }
+
+    @Override
+    public void delete(String taskId) {
+    }
+
+    @Override
+    public void renameSubject(String oldName, String newName) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.User;
+import java.util.ArrayList;
+import java.util.List;
+
+// Tidak menyentuh disk sama sekali, untuk test dan benchmark
+public class MemoryUserStore implements UserStore {
+    private final List<User> seed;
+
+    public MemoryUserStore() {
+        this(new ArrayList<>());
+    }
+
+    public MemoryUserStore(List<User> seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public List<User> loadAll() {
+        return new ArrayList<>(seed);
+    }
+
+    @Override
+    public void upsert(User user) {
+    }
+}
@@ -0,0 +1,141 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.Task;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+// Registry metrik storage. Setiap operasi didaftarkan sebagai MXBean
+// com.taskmanager:type=Storage,name=<operasi> saat pertama dipakai, dan kalau
+// -Dsync.metrics.file=... diisi, ringkasannya ditulis ke file itu saat aplikasi keluar.
+public class Metrics {
+    private static final String DUMP_FILE = System.getProperty("sync.metrics.file");
+    private static final ConcurrentHashMap<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+    // Layar yang sedang tampil, diisi saat scene diganti; operasi dari thread background ikut tercatat di sini
+    private static volatile String currentView = "startup";
+
+    static {
+        if (DUMP_FILE != null) {
+            Runtime.getRuntime().addShutdownHook(new Thread(Metrics::dump, "metrics-dump"));
+        }
+    }
+
+    public static OperationMetrics operation(String name) {
+        OperationMetrics metrics = operations.get(name);
+        return metrics != null ? metrics : operations.computeIfAbsent(name, Metrics::register);
+    }
+
+    private static OperationMetrics register(String name) {
+        OperationMetrics metrics = new OperationMetrics(name);
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics,
+                    new ObjectName("com.taskmanager:type=Storage,name=" + ObjectName.quote(name)));
+        } catch (JMException e) {
+            e.printStackTrace();
+        }
+        return metrics;
+    }
+
+    // Selain histogram JMX, setiap panggilan juga menjadi StoreEvent kalau recording JFR aktif
+    public static <T> T time(String name, Supplier<T> call) {
+        OperationMetrics metrics = operation(name);
+        StoreEvent event = new StoreEvent();
+        event.operation = name;
+        event.start();
+        ThreadIo io = ThreadIo.current();
+        io.depth++;
+        T result = null;
+        long start = System.nanoTime();
+        try {
+            result = call.get();
+            return result;
+        } catch (RuntimeException | Error e) {
+            metrics.error();
+            event.failed = true;
+            throw e;
+        } finally {
+            metrics.record(System.nanoTime() - start);
+            long tasks = taskCount(result);
+            event.taskCount = tasks;
+            event.finish();
+            // Ditambahkan setelah finish supaya event ini tidak menghitung task-nya dua kali
+            if (--io.depth == 0) {
+                io.tasks += tasks;
+            }
+        }
+    }
+
+    // Jumlah task dari hasil operasi: ukuran list, angka count, atau jumlah per subject
+    private static long taskCount(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        } else if (result instanceof Task) {
+            return 1;
+        } else if (result instanceof Integer count) {
+            return count;
+        } else if (result instanceof TaskStats stats) {
+            return stats.getTotal();
+        } else if (result instanceof Map<?, ?> counts) {
+            long total = 0;
+            for (Object value : counts.values()) {
+                if (value instanceof Integer count) {
+                    total += count;
+                }
+            }
+            return total;
+        }
+        return 0;
+    }
+
+    public static void time(String name, Runnable call) {
+        time(name, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    // "/view/TasksView.fxml" -> "TasksView"
+    public static void setView(String fxmlPath) {
+        String name = fxmlPath.substring(fxmlPath.lastIndexOf('/') + 1);
+        currentView = name.endsWith(".fxml") ? name.substring(0, name.length() - 5) : name;
+    }
+
+    public static String currentView() {
+        return currentView;
+    }
+
+    public static void dump() {
+        List<OperationMetrics> sorted = new ArrayList<>(operations.values());
+        sorted.sort((a, b) -> a.getName().compareTo(b.getName()));
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(Paths.get(DUMP_FILE), StandardCharsets.UTF_8))) {
+            out.printf("%-40s %9s %7s %10s %10s %10s %10s %10s %12s %12s %10s%n", "operation", "count", "errors",
+                    "mean us", "p50 us", "p99 us", "p999 us", "max us", "bytes read", "bytes write", "rows");
+            for (OperationMetrics metrics : sorted) {
+                out.printf("%-40s %9d %7d %10.1f %10.1f %10.1f %10.1f %10.1f %12d %12d %10d%n", metrics.getName(),
+                        metrics.getCount(), metrics.getErrors(), metrics.getMeanMicros(), metrics.getP50Micros(),
+                        metrics.getP99Micros(), metrics.getP999Micros(), metrics.getMaxMicros(),
+                        metrics.getBytesRead(), metrics.getBytesWritten(), metrics.getRowsScanned());
+            }
+            out.println();
+            out.println("calls by view");
+            for (OperationMetrics metrics : sorted) {
+                for (Map.Entry<String, Long> entry : metrics.getCallsByView().entrySet()) {
+                    out.printf("%-40s %-24s %9d%n", metrics.getName(), entry.getKey(), entry.getValue());
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
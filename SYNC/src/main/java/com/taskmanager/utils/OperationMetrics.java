@@ -0,0 +1,115 @@
+package com.taskmanager.utils;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Counter satu operasi storage. Semua method record aman dipanggil dari thread mana saja tanpa lock.
+public class OperationMetrics implements OperationMetricsMXBean {
+    private final String name;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder rowsScanned = new LongAdder();
+    private final ConcurrentHashMap<String, LongAdder> callsByView = new ConcurrentHashMap<>();
+
+    OperationMetrics(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void record(long nanos) {
+        latency.record(nanos);
+        callsByView.computeIfAbsent(Metrics.currentView(), k -> new LongAdder()).increment();
+    }
+
+    public void error() {
+        errors.increment();
+    }
+
+    public void addBytesRead(long bytes) {
+        bytesRead.add(bytes);
+        ThreadIo.current().bytesRead += bytes;
+    }
+
+    public void addBytesWritten(long bytes) {
+        bytesWritten.add(bytes);
+        ThreadIo.current().bytesWritten += bytes;
+    }
+
+    public void addRowsScanned(long rows) {
+        rowsScanned.add(rows);
+    }
+
+    @Override
+    public long getCount() {
+        return latency.count();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public double getMeanMicros() {
+        return latency.mean() / 1e3;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return latency.percentile(0.50) / 1e3;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return latency.percentile(0.99) / 1e3;
+    }
+
+    @Override
+    public double getP999Micros() {
+        return latency.percentile(0.999) / 1e3;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return latency.max() / 1e3;
+    }
+
+    @Override
+    public long getBytesRead() {
+        return bytesRead.sum();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    @Override
+    public long getRowsScanned() {
+        return rowsScanned.sum();
+    }
+
+    @Override
+    public Map<String, Long> getCallsByView() {
+        Map<String, Long> result = new TreeMap<>();
+        callsByView.forEach((view, count) -> result.put(view, count.sum()));
+        return result;
+    }
+
+    @Override
+    public void reset() {
+        latency.reset();
+        errors.reset();
+        bytesRead.reset();
+        bytesWritten.reset();
+        rowsScanned.reset();
+        callsByView.clear();
+    }
+}
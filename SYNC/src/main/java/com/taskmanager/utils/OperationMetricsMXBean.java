@@ -0,0 +1,32 @@
+package com.taskmanager.utils;
+
+import java.util.Map;
+
+// Atribut yang terlihat di JConsole/VisualVM di bawah com.taskmanager:type=Storage
+public interface OperationMetricsMXBean {
+
+    long getCount();
+
+    long getErrors();
+
+    double getMeanMicros();
+
+    double getP50Micros();
+
+    double getP99Micros();
+
+    double getP999Micros();
+
+    double getMaxMicros();
+
+    long getBytesRead();
+
+    long getBytesWritten();
+
+    long getRowsScanned();
+
+    // Jumlah panggilan per layar yang sedang tampil saat operasi dijalankan
+    Map<String, Long> getCallsByView();
+
+    void reset();
+}
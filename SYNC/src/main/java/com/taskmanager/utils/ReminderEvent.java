@@ -0,0 +1,11 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.Task;
+
+// DUE_SOON saat deadline masuk jendela ReminderScheduler.DUE_SOON_WINDOW_MILLIS, OVERDUE saat deadline lewat
+public record ReminderEvent(Kind kind, Task task) {
+    public enum Kind {
+        DUE_SOON,
+        OVERDUE
+    }
+}
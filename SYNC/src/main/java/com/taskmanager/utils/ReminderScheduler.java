@@ -0,0 +1,99 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.Task;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+// Satu timer untuk semua deadline: selalu hanya di-set ke batas berikutnya yang diambil dari
+// DeadlineIndex (deadline lewat, atau deadline masuk jendela 24 jam), bukan satu timer per task.
+// Saat berbunyi, semua deadline yang terlewati sejak bunyi terakhir diumumkan di ChangeBus.REMINDERS.
+// Semua state hanya disentuh dari thread reminder-timer.
+public class ReminderScheduler {
+    public static final long DUE_SOON_WINDOW_MILLIS = 24 * 60 * 60 * 1000L;
+
+    private static final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "reminder-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Deadline sebelum batas ini sudah diumumkan
+    private static long firedUntil;
+    private static long armedAt = Long.MAX_VALUE;
+    private static ScheduledFuture<?> pending;
+
+    // Banyak perubahan berturut-turut (misalnya rename subject) cukup memicu satu reschedule
+    private static final AtomicBoolean rescheduleQueued = new AtomicBoolean(false);
+    // Disimpan di field karena ChangeBus hanya memegang weak reference
+    private static final Consumer<TaskEvent> taskListener = event -> {
+        if (rescheduleQueued.compareAndSet(false, true)) {
+            timer.execute(() -> {
+                rescheduleQueued.set(false);
+                reschedule();
+            });
+        }
+    };
+    private static final AtomicBoolean started = new AtomicBoolean(false);
+
+    public static void start() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        ChangeBus.TASKS.subscribe(taskListener);
+        timer.execute(() -> {
+            firedUntil = System.currentTimeMillis();
+            reschedule();
+        });
+    }
+
+    private static void reschedule() {
+        long next = nextBoundary();
+        if (next == armedAt) {
+            return;
+        }
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+        armedAt = next;
+        if (next == Long.MAX_VALUE) {
+            return;
+        }
+        long delay = Math.max(0, next - System.currentTimeMillis());
+        pending = timer.schedule(ReminderScheduler::fire, delay, TimeUnit.MILLISECONDS);
+    }
+
+    // Waktu paling awal ada deadline yang lewat atau masuk jendela due soon
+    private static long nextBoundary() {
+        long overdueAt = TaskRepository.nextDeadlineAtOrAfter(firedUntil);
+        long dueSoonAt = TaskRepository.nextDeadlineAtOrAfter(firedUntil + DUE_SOON_WINDOW_MILLIS);
+        long next = Math.min(overdueAt, dueSoonAt == Long.MAX_VALUE ? Long.MAX_VALUE : dueSoonAt - DUE_SOON_WINDOW_MILLIS);
+        // Rentang [firedUntil, now) jadi deadline tepat di batas baru terlewati 1 ms setelahnya
+        return next == Long.MAX_VALUE ? next : next + 1;
+    }
+
+    private static void fire() {
+        pending = null;
+        armedAt = Long.MAX_VALUE;
+        long now = System.currentTimeMillis();
+        if (now > firedUntil) {
+            List<Task> dueSoon = TaskRepository.getAllTasksDueBetween(
+                    firedUntil + DUE_SOON_WINDOW_MILLIS, now + DUE_SOON_WINDOW_MILLIS);
+            List<Task> overdue = TaskRepository.getAllTasksDueBetween(firedUntil, now);
+            firedUntil = now;
+
+            for (Task task : dueSoon) {
+                ChangeBus.REMINDERS.publish(new ReminderEvent(ReminderEvent.Kind.DUE_SOON, task));
+            }
+            for (Task task : overdue) {
+                ChangeBus.REMINDERS.publish(new ReminderEvent(ReminderEvent.Kind.OVERDUE, task));
+            }
+        }
+        reschedule();
+    }
+}
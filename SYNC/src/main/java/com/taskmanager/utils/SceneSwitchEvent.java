@@ -0,0 +1,26 @@
+package com.taskmanager.utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.taskmanager.SceneSwitch")
+@Label("Scene Switch")
+@Category({"SYNC", "UI"})
+@Description("Dari tombol ditekan sampai root baru terpasang, termasuk animasi fade; View adalah layar asal")
+public class SceneSwitchEvent extends TraceEvent {
+    @Label("Target")
+    public String target;
+
+    @Label("Trigger")
+    public String trigger;
+
+    public static SceneSwitchEvent start(String trigger, String target) {
+        SceneSwitchEvent event = new SceneSwitchEvent();
+        event.trigger = trigger;
+        event.target = target;
+        event.start();
+        return event;
+    }
+}
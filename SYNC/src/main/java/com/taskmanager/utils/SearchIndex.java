@@ -0,0 +1,295 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.Task;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Inverted index kata -> slot task untuk pencarian di board. Kata disimpan di TreeMap yang terurut,
+// jadi "bas" cukup membaca rentang kata dari "bas" sampai "bas" + Character.MAX_VALUE
+// (search-as-you-type tanpa n-gram).
+// Skor sederhana: kata di judul 4, di subject 2, di deskripsi 1; semua kata query harus cocok.
+// Nama subject tidak ikut diindeks per task (rename subject cukup di StringDictionary); slot yang
+// subject-nya cocok dengan kata query dikirim pemanggil sebagai bitmap.
+class SearchIndex {
+    private static final int TITLE = 1;
+    private static final int DESCRIPTION = 4;
+    private static final int SUBJECT_WEIGHT = 2;
+
+    // Status per slot selama satu query: generation << 32 | jumlah kata cocok << 24 | skor.
+    // Dipakai bersama semua indeks supaya query tidak membuat map baru; aman karena semua
+    // pemanggilan terjadi di bawah lock TaskRepository.
+    private static long[] state = new long[0];
+    private static int generation = 0;
+    private static int[] candidates = new int[16];
+    private static int candidateCount = 0;
+
+    private final TreeMap<String, Postings> terms = new TreeMap<>();
+
+    // Slot untuk satu kata, terurut supaya query menyapu memori berurutan. Task baru selalu
+    // dapat slot terbesar jadi add cukup append; hapus hanya menandai entry (~slot) dan
+    // array dipadatkan kalau separuhnya sudah bertanda.
+    static final class Postings {
+        private final String term;
+        private int[] slots = new int[2];
+        private byte[] fields = new byte[2];
+        private int size = 0;
+        private int live = 0;
+
+        private Postings(String term) {
+            this.term = term;
+        }
+
+        private static int decode(int entry) {
+            return entry < 0 ? ~entry : entry;
+        }
+
+        private int find(int slot) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int value = decode(slots[mid]);
+                if (value < slot) {
+                    low = mid + 1;
+                } else if (value > slot) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return ~low;
+        }
+
+        private void add(int slot, int field) {
+            int pos = size == 0 || decode(slots[size - 1]) < slot ? ~size : find(slot);
+            if (pos >= 0) {
+                if (slots[pos] < 0) {
+                    live++;
+                }
+                slots[pos] = slot;
+                fields[pos] = (byte) field;
+                return;
+            }
+            pos = ~pos;
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                fields = Arrays.copyOf(fields, size * 2);
+            }
+            System.arraycopy(slots, pos, slots, pos + 1, size - pos);
+            System.arraycopy(fields, pos, fields, pos + 1, size - pos);
+            slots[pos] = slot;
+            fields[pos] = (byte) field;
+            size++;
+            live++;
+        }
+
+        private void remove(int slot) {
+            int pos = find(slot);
+            if (pos < 0 || slots[pos] < 0) {
+                return;
+            }
+            slots[pos] = ~slot;
+            live--;
+            if (live * 2 < size) {
+                rebuild(null);
+            }
+        }
+
+        // Buang entry bertanda; kalau newSlotOf diisi, slot ikut dipetakan ulang (urutan tetap)
+        private void rebuild(int[] newSlotOf) {
+            int target = 0;
+            for (int i = 0; i < size; i++) {
+                if (slots[i] >= 0) {
+                    slots[target] = newSlotOf != null ? newSlotOf[slots[i]] : slots[i];
+                    fields[target] = fields[i];
+                    target++;
+                }
+            }
+            size = target;
+            if (slots.length > 16 && size * 4 < slots.length) {
+                slots = Arrays.copyOf(slots, Math.max(2, size * 2));
+                fields = Arrays.copyOf(fields, Math.max(2, size * 2));
+            }
+        }
+    }
+
+    // Postings yang diisi dikembalikan supaya pemanggil bisa menghapusnya lagi walaupun
+    // judul/deskripsi task sudah diubah di tempat
+    Postings[] add(int slot, Task task) {
+        Map<String, Integer> fieldsByTerm = new LinkedHashMap<>();
+        collect(task.getTitle(), TITLE, fieldsByTerm);
+        collect(task.getDescription(), DESCRIPTION, fieldsByTerm);
+
+        Postings[] entries = new Postings[fieldsByTerm.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : fieldsByTerm.entrySet()) {
+            Postings postings = terms.computeIfAbsent(entry.getKey(), Postings::new);
+            postings.add(slot, entry.getValue());
+            entries[i++] = postings;
+        }
+        return entries;
+    }
+
+    void remove(int slot, Postings[] entries) {
+        for (Postings postings : entries) {
+            postings.remove(slot);
+            if (postings.live == 0) {
+                terms.remove(postings.term);
+            }
+        }
+    }
+
+    // Dipanggil setelah TaskRepository memadatkan slots
+    void remap(int[] newSlotOf) {
+        for (Postings postings : terms.values()) {
+            postings.rebuild(newSlotOf);
+        }
+    }
+
+    // Paling banyak limit slot yang cocok dengan semua kata (dan ada di allowed kalau diisi), urut
+    // skor tertinggi lalu slot terkecil. subjectSlots[t] = slot milik user ini yang nama subject-nya
+    // cocok dengan tokens[t], boleh null.
+    int[] search(List<String> tokens, SlotBitmap[] subjectSlots, int slotCount, int limit, SlotBitmap allowed) {
+        if (tokens.isEmpty()) {
+            return new int[0];
+        }
+        if (state.length < slotCount) {
+            state = new long[slotCount];
+            generation = 0;
+        }
+        if (++generation == Integer.MAX_VALUE) {
+            Arrays.fill(state, 0);
+            generation = 1;
+        }
+        long current = (long) generation << 32;
+
+        // Kandidat dari kata pertama; kata berikutnya hanya menaikkan jumlah kata cocok kandidat itu
+        candidateCount = 0;
+        for (int t = 0; t < tokens.size(); t++) {
+            String token = tokens.get(t);
+            for (Postings postings : terms.subMap(token, true, token + Character.MAX_VALUE, false).values()) {
+                int[] postingSlots = postings.slots;
+                byte[] postingFields = postings.fields;
+                for (int i = 0; i < postings.size; i++) {
+                    if (postingSlots[i] >= 0) {
+                        mark(postingSlots[i], t, current, weight(postingFields[i]));
+                    }
+                }
+            }
+            if (subjectSlots[t] != null) {
+                int index = t;
+                subjectSlots[t].forEach(slot -> mark(slot, index, current, SUBJECT_WEIGHT));
+            }
+            if (candidateCount == 0) {
+                return new int[0];
+            }
+        }
+
+        long required = current | (long) tokens.size() << 24;
+        int count = 0;
+        int maxScore = 0;
+        if (candidateCount * 8L < slotCount) {
+            for (int i = 0; i < candidateCount; i++) {
+                int slot = candidates[i];
+                if ((state[slot] & ~0xFFFFFFL) == required && (allowed == null || allowed.contains(slot))) {
+                    candidates[count++] = slot;
+                    maxScore = Math.max(maxScore, (int) state[slot] & 0xFFFFFF);
+                }
+            }
+            Arrays.sort(candidates, 0, count);
+        } else {
+            // Kandidat banyak: menyapu semua slot berurutan lebih murah daripada sort
+            for (int slot = 0; slot < slotCount; slot++) {
+                if ((state[slot] & ~0xFFFFFFL) == required && (allowed == null || allowed.contains(slot))) {
+                    candidates[count++] = slot;
+                    maxScore = Math.max(maxScore, (int) state[slot] & 0xFFFFFF);
+                }
+            }
+        }
+
+        // Counting sort per skor (stabil), skor tertinggi di depan
+        int[] offsets = new int[maxScore + 2];
+        for (int i = 0; i < count; i++) {
+            offsets[maxScore - ((int) state[candidates[i]] & 0xFFFFFF) + 1]++;
+        }
+        for (int s = 1; s < offsets.length; s++) {
+            offsets[s] += offsets[s - 1];
+        }
+        int[] result = new int[Math.min(count, limit)];
+        for (int i = 0; i < count; i++) {
+            int slot = candidates[i];
+            int position = offsets[maxScore - ((int) state[slot] & 0xFFFFFF)]++;
+            if (position < result.length) {
+                result[position] = slot;
+            }
+        }
+        return result;
+    }
+
+    // Satu slot cocok dengan kata ke-t. Slot yang sama bisa cocok lewat beberapa kata indeks
+    // (prefix) atau lewat subject, jadi jumlah kata cocok di-set ke t + 1, bukan ditambah.
+    private static void mark(int slot, int t, long current, int weight) {
+        long value = state[slot];
+        if (t == 0) {
+            if ((value & 0xFFFFFFFF00000000L) != current) {
+                state[slot] = current | 1 << 24 | weight;
+                if (candidateCount == candidates.length) {
+                    candidates = Arrays.copyOf(candidates, candidateCount * 2);
+                }
+                candidates[candidateCount++] = slot;
+            } else {
+                state[slot] = value + weight;
+            }
+        } else if ((value & 0xFFFFFFFF00000000L) == current && ((int) value >>> 24) >= t) {
+            state[slot] = current | (long) (t + 1) << 24 | ((int) value & 0xFFFFFF) + weight;
+        }
+    }
+
+    private static int weight(int fields) {
+        int score = 0;
+        if ((fields & TITLE) != 0) {
+            score += 4;
+        }
+        if ((fields & DESCRIPTION) != 0) {
+            score += 1;
+        }
+        return score;
+    }
+
+    private static void collect(String text, int field, Map<String, Integer> fieldsByTerm) {
+        for (String token : tokenize(text)) {
+            fieldsByTerm.merge(token, field, (a, b) -> a | b);
+        }
+    }
+
+    // Kata query unik, urutan tetap
+    static List<String> queryTokens(String query) {
+        return new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+    }
+
+    // Huruf kecil, dipisah di karakter yang bukan huruf/angka
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean word = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (word && start < 0) {
+                start = i;
+            } else if (!word && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
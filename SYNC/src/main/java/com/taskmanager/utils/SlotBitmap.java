@@ -0,0 +1,383 @@
+package com.taskmanager.utils;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// Himpunan slot task terkompresi ala Roaring: slot dibagi per 65536 (16 bit atas), tiap bagian
+// disimpan sebagai array char terurut kalau isinya sedikit atau bitmap 1024 long kalau padat.
+// AND/OR dikerjakan per bagian, jadi facet yang jarang (misalnya satu owner) tetap kecil dan cepat.
+class SlotBitmap {
+    private static final int ARRAY_MAX = 4096;
+    private static final int WORDS = 1024;
+
+    private static final class Container {
+        private char[] values;
+        private long[] words;
+        private int cardinality;
+
+        private static Container ofArray(char[] values, int cardinality) {
+            Container container = new Container();
+            container.values = values;
+            container.cardinality = cardinality;
+            return container;
+        }
+
+        private static Container ofWords(long[] words) {
+            Container container = new Container();
+            container.words = words;
+            for (long word : words) {
+                container.cardinality += Long.bitCount(word);
+            }
+            return container.shrinkIfSparse();
+        }
+
+        private boolean contains(char low) {
+            if (words != null) {
+                return (words[low >>> 6] & (1L << low)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        private boolean add(char low) {
+            if (words != null) {
+                long bit = 1L << low;
+                if ((words[low >>> 6] & bit) != 0) {
+                    return false;
+                }
+                words[low >>> 6] |= bit;
+                cardinality++;
+                return true;
+            }
+            int pos = cardinality == 0 || values[cardinality - 1] < low
+                    ? -cardinality - 1
+                    : Arrays.binarySearch(values, 0, cardinality, low);
+            if (pos >= 0) {
+                return false;
+            }
+            pos = -pos - 1;
+            if (cardinality == ARRAY_MAX) {
+                words = new long[WORDS];
+                for (int i = 0; i < cardinality; i++) {
+                    words[values[i] >>> 6] |= 1L << values[i];
+                }
+                values = null;
+                words[low >>> 6] |= 1L << low;
+                cardinality++;
+                return true;
+            }
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, cardinality * 2));
+            }
+            System.arraycopy(values, pos, values, pos + 1, cardinality - pos);
+            values[pos] = low;
+            cardinality++;
+            return true;
+        }
+
+        private boolean remove(char low) {
+            if (words != null) {
+                long bit = 1L << low;
+                if ((words[low >>> 6] & bit) == 0) {
+                    return false;
+                }
+                words[low >>> 6] &= ~bit;
+                cardinality--;
+                // Kembali ke array setelah jauh di bawah batas supaya tidak bolak-balik
+                if (cardinality < ARRAY_MAX / 2) {
+                    shrinkIfSparse();
+                }
+                return true;
+            }
+            int pos = Arrays.binarySearch(values, 0, cardinality, low);
+            if (pos < 0) {
+                return false;
+            }
+            System.arraycopy(values, pos + 1, values, pos, cardinality - pos - 1);
+            cardinality--;
+            return true;
+        }
+
+        private Container shrinkIfSparse() {
+            if (words != null && cardinality <= ARRAY_MAX / 2) {
+                char[] sparse = new char[Math.max(4, cardinality)];
+                int n = 0;
+                for (int w = 0; w < WORDS; w++) {
+                    long word = words[w];
+                    while (word != 0) {
+                        sparse[n++] = (char) (w << 6 | Long.numberOfTrailingZeros(word));
+                        word &= word - 1;
+                    }
+                }
+                values = sparse;
+                words = null;
+            }
+            return this;
+        }
+
+        private long[] toWords() {
+            if (words != null) {
+                return words;
+            }
+            long[] dense = new long[WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                dense[values[i] >>> 6] |= 1L << values[i];
+            }
+            return dense;
+        }
+
+        private static Container and(Container a, Container b) {
+            if (a.words != null && b.words != null) {
+                long[] result = new long[WORDS];
+                for (int w = 0; w < WORDS; w++) {
+                    result[w] = a.words[w] & b.words[w];
+                }
+                return ofWords(result);
+            }
+            if (a.words != null) {
+                return and(b, a);
+            }
+            char[] result = new char[Math.max(1, a.cardinality)];
+            int n = 0;
+            if (b.words != null) {
+                for (int i = 0; i < a.cardinality; i++) {
+                    if (b.contains(a.values[i])) {
+                        result[n++] = a.values[i];
+                    }
+                }
+            } else {
+                int i = 0;
+                int j = 0;
+                while (i < a.cardinality && j < b.cardinality) {
+                    if (a.values[i] < b.values[j]) {
+                        i++;
+                    } else if (a.values[i] > b.values[j]) {
+                        j++;
+                    } else {
+                        result[n++] = a.values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            }
+            return ofArray(result, n);
+        }
+
+        private static int andCardinality(Container a, Container b) {
+            if (a.words != null && b.words != null) {
+                int count = 0;
+                for (int w = 0; w < WORDS; w++) {
+                    count += Long.bitCount(a.words[w] & b.words[w]);
+                }
+                return count;
+            }
+            if (a.words != null) {
+                return andCardinality(b, a);
+            }
+            int count = 0;
+            if (b.words != null) {
+                for (int i = 0; i < a.cardinality; i++) {
+                    if (b.contains(a.values[i])) {
+                        count++;
+                    }
+                }
+                return count;
+            }
+            int i = 0;
+            int j = 0;
+            while (i < a.cardinality && j < b.cardinality) {
+                if (a.values[i] < b.values[j]) {
+                    i++;
+                } else if (a.values[i] > b.values[j]) {
+                    j++;
+                } else {
+                    count++;
+                    i++;
+                    j++;
+                }
+            }
+            return count;
+        }
+
+        private static Container or(Container a, Container b) {
+            if (a.words == null && b.words == null && a.cardinality + b.cardinality <= ARRAY_MAX) {
+                char[] result = new char[Math.max(1, a.cardinality + b.cardinality)];
+                int i = 0;
+                int j = 0;
+                int n = 0;
+                while (i < a.cardinality || j < b.cardinality) {
+                    if (j == b.cardinality || (i < a.cardinality && a.values[i] < b.values[j])) {
+                        result[n++] = a.values[i++];
+                    } else if (i == a.cardinality || a.values[i] > b.values[j]) {
+                        result[n++] = b.values[j++];
+                    } else {
+                        result[n++] = a.values[i++];
+                        j++;
+                    }
+                }
+                return ofArray(result, n);
+            }
+            long[] result = a.toWords().clone();
+            if (b.words != null) {
+                for (int w = 0; w < WORDS; w++) {
+                    result[w] |= b.words[w];
+                }
+            } else {
+                for (int i = 0; i < b.cardinality; i++) {
+                    result[b.values[i] >>> 6] |= 1L << b.values[i];
+                }
+            }
+            return ofWords(result);
+        }
+
+        private void forEach(int high, IntConsumer action) {
+            int base = high << 16;
+            if (words == null) {
+                for (int i = 0; i < cardinality; i++) {
+                    action.accept(base | values[i]);
+                }
+                return;
+            }
+            for (int w = 0; w < WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    action.accept(base | w << 6 | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+    }
+
+    // keys[i] = 16 bit atas untuk containers[i], terurut
+    private char[] keys = new char[2];
+    private Container[] containers = new Container[2];
+    private int size = 0;
+    private int cardinality = 0;
+
+    private int indexOf(char high) {
+        return Arrays.binarySearch(keys, 0, size, high);
+    }
+
+    private void insertContainer(int pos, char high, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, pos, keys, pos + 1, size - pos);
+        System.arraycopy(containers, pos, containers, pos + 1, size - pos);
+        keys[pos] = high;
+        containers[pos] = container;
+        size++;
+    }
+
+    private void append(char high, Container container) {
+        if (container.cardinality > 0) {
+            insertContainer(size, high, container);
+            cardinality += container.cardinality;
+        }
+    }
+
+    void add(int slot) {
+        char high = (char) (slot >>> 16);
+        int pos = size > 0 && keys[size - 1] == high ? size - 1 : indexOf(high);
+        if (pos < 0) {
+            pos = -pos - 1;
+            insertContainer(pos, high, Container.ofArray(new char[4], 0));
+        }
+        if (containers[pos].add((char) slot)) {
+            cardinality++;
+        }
+    }
+
+    void remove(int slot) {
+        int pos = indexOf((char) (slot >>> 16));
+        if (pos < 0 || !containers[pos].remove((char) slot)) {
+            return;
+        }
+        cardinality--;
+        if (containers[pos].cardinality == 0) {
+            System.arraycopy(keys, pos + 1, keys, pos, size - pos - 1);
+            System.arraycopy(containers, pos + 1, containers, pos, size - pos - 1);
+            size--;
+            containers[size] = null;
+        }
+    }
+
+    boolean contains(int slot) {
+        int pos = indexOf((char) (slot >>> 16));
+        return pos >= 0 && containers[pos].contains((char) slot);
+    }
+
+    int cardinality() {
+        return cardinality;
+    }
+
+    void clear() {
+        Arrays.fill(containers, null);
+        size = 0;
+        cardinality = 0;
+    }
+
+    static SlotBitmap and(SlotBitmap a, SlotBitmap b) {
+        SlotBitmap result = new SlotBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                result.append(a.keys[i], Container.and(a.containers[i], b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    static SlotBitmap or(SlotBitmap a, SlotBitmap b) {
+        SlotBitmap result = new SlotBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size || j < b.size) {
+            if (j == b.size || (i < a.size && a.keys[i] < b.keys[j])) {
+                result.append(a.keys[i], Container.or(a.containers[i], Container.ofArray(new char[0], 0)));
+                i++;
+            } else if (i == a.size || a.keys[i] > b.keys[j]) {
+                result.append(b.keys[j], Container.or(b.containers[j], Container.ofArray(new char[0], 0)));
+                j++;
+            } else {
+                result.append(a.keys[i], Container.or(a.containers[i], b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    // Jumlah anggota irisan tanpa membuat bitmap baru, dipakai untuk hitungan facet
+    static int andCardinality(SlotBitmap a, SlotBitmap b) {
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                count += Container.andCardinality(a.containers[i], b.containers[j]);
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    // Urut dari slot terkecil, sama dengan urutan board
+    void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i], action);
+        }
+    }
+}
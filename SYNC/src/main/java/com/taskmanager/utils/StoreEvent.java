@@ -0,0 +1,19 @@
+package com.taskmanager.utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Satu panggilan CSVHelper/SubjectHelper, dipancarkan oleh Metrics.time
+@Name("com.taskmanager.Store")
+@Label("Store Operation")
+@Category({"SYNC", "Storage"})
+@Description("Panggilan CSVHelper atau SubjectHelper beserta task yang dikembalikan dan byte file yang disentuh")
+public class StoreEvent extends TraceEvent {
+    @Label("Operation")
+    public String operation;
+
+    @Label("Failed")
+    public boolean failed;
+}
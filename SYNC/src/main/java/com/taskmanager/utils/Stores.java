@@ -0,0 +1,40 @@
+package com.taskmanager.utils;
+
+// Memilih backend dari -Dsync.store=csv|binary|memory|jdbc (default csv)
+public class Stores {
+    private static final String KIND = System.getProperty("sync.store", "csv");
+    private static final String JDBC_URL = System.getProperty("sync.store.jdbc.url",
+            "jdbc:h2:./" + CSVHelper.DATA_DIR + "/sync");
+
+    // "log" (default): perubahan ditambahkan ke tasks.log, "rewrite": tasks.csv ditulis ulang
+    private static final boolean LOG_MODE = !"rewrite".equals(System.getProperty("sync.storage.mode", "log"));
+    // Batas waktu (ms) perubahan boleh menunggu di memory sebelum di-fsync, 0 = langsung
+    private static final long FLUSH_MILLIS = Long.getLong("sync.flush.millis", 100);
+    private static final int FLUSH_BATCH = Integer.getInteger("sync.flush.batch", 256);
+
+    public static TaskStore taskStore() {
+        switch (KIND) {
+            case "binary":
+                return new BinaryTaskStore(FLUSH_MILLIS, FLUSH_BATCH);
+            case "memory":
+                return new MemoryTaskStore();
+            case "jdbc":
+                return new JdbcTaskStore(JDBC_URL);
+            default:
+                return new CsvTaskStore(LOG_MODE, FLUSH_MILLIS, FLUSH_BATCH);
+        }
+    }
+
+    public static UserStore userStore() {
+        switch (KIND) {
+            case "binary":
+                return new BinaryUserStore();
+            case "memory":
+                return new MemoryUserStore();
+            case "jdbc":
+                return new JdbcUserStore(JDBC_URL);
+            default:
+                return new CsvUserStore();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.taskmanager.utils;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Setiap string unik (nama subject, username pemilik) disimpan sekali dan diwakili id int.
+// Task hanya menyimpan id-nya, jadi jutaan task berbagi beberapa puluh String saja.
+public class StringDictionary {
+    public static final int NONE = -1;
+
+    public static final StringDictionary SUBJECTS = new StringDictionary();
+    public static final StringDictionary OWNERS = new StringDictionary();
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    // Ditulis ulang (volatile) setiap ada string baru supaya valueOf bisa dibaca tanpa lock
+    private volatile String[] values = new String[16];
+    private int size = 0;
+
+    public int idOf(String value) {
+        if (value == null) {
+            return NONE;
+        }
+        Integer id = ids.get(value);
+        return id != null ? id : add(value);
+    }
+
+    // Untuk query: nama yang belum pernah dipakai task tidak ikut disimpan, hasilnya NONE
+    public int find(String value) {
+        if (value == null) {
+            return NONE;
+        }
+        Integer id = ids.get(value);
+        return id != null ? id : NONE;
+    }
+
+    private synchronized int add(String value) {
+        Integer id = ids.get(value);
+        if (id != null) {
+            return id;
+        }
+        String[] current = values;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, size * 2);
+        }
+        current[size] = value;
+        values = current;
+        ids.put(value, size);
+        return size++;
+    }
+
+    // Ganti nama di tempat: semua task yang memegang id ini langsung ikut. Gagal kalau nama baru
+    // sudah punya id sendiri, karena dua id dengan nama sama tidak bisa digabung dari sini.
+    public synchronized boolean rename(String oldValue, String newValue) {
+        Integer id = ids.get(oldValue);
+        if (id == null) {
+            return true;
+        }
+        if (ids.containsKey(newValue)) {
+            return false;
+        }
+        String[] current = values.clone();
+        current[id] = newValue;
+        ids.put(newValue, id);
+        ids.remove(oldValue);
+        values = current;
+        return true;
+    }
+
+    // Nama dilepas dari id-nya (pemanggil sudah memastikan id itu tidak dipakai task lagi), supaya
+    // rename ke nama ini bisa lewat jalur cepat. valueOf untuk id lama tetap mengembalikan nama itu.
+    public synchronized void forget(String value) {
+        ids.remove(value);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String valueOf(int id) {
+        return id == NONE ? null : values[id];
+    }
+}
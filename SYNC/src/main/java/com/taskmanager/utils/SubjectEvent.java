@@ -0,0 +1,5 @@
+package com.taskmanager.utils;
+
+// oldName null untuk CREATED, newName null untuk DELETED
+public record SubjectEvent(ChangeType type, String oldName, String newName) {
+}
@@ -4,7 +4,7 @@ import java.io.*;
 import java.util.*;
 
 public class SubjectHelper {
-    private static final String SUBJECTS_FILE = "SYNC/data/subjects.txt";
+    private static final String SUBJECTS_FILE = CSVHelper.DATA_DIR + "/subjects.txt";
 
     private static final List<String> DEFAULT_SUBJECTS = Arrays.asList(
             "Basis Data",
@@ -27,7 +27,89 @@ public class SubjectHelper {
         }
     }
 
-    public static List<String> getAllSubjects() {
+    // Daftar subject dibaca sekali lalu tinggal di memory; subjects.txt hanya ditulis saat berubah.
+    // Urutan daftar = urutan tampil di sidebar dan editor.
+    private static List<String> subjects;
+
+    public static synchronized List<String> getAllSubjects() {
+        return Metrics.time("SubjectHelper.getAllSubjects", () -> new ArrayList<>(subjects()));
+    }
+
+    // Jumlah task (semua user) per subject, urutan sama dengan getAllSubjects
+    public static synchronized Map<String, Integer> getSubjectCounts() {
+        return Metrics.time("SubjectHelper.getSubjectCounts", () -> {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            for (String subject : subjects()) {
+                counts.put(subject, CSVHelper.countTasksWithSubject(subject));
+            }
+            return counts;
+        });
+    }
+
+    public static synchronized boolean addSubject(String subject) {
+        return Metrics.time("SubjectHelper.addSubject", () -> {
+            if (subject == null || subject.trim().isEmpty()) {
+                return false;
+            }
+
+            List<String> subjects = subjects();
+
+            if (subjects.contains(subject.trim())) {
+                return false;
+            }
+
+            subjects.add(subject.trim());
+            saveSubjects(subjects);
+            ChangeBus.SUBJECTS.publish(new SubjectEvent(ChangeType.CREATED, null, subject.trim()));
+            return true;
+        });
+    }
+
+    public static synchronized boolean deleteSubject(String subject) {
+        return Metrics.time("SubjectHelper.deleteSubject", () -> {
+            List<String> subjects = subjects();
+            boolean removed = subjects.remove(subject);
+
+            if (removed) {
+                saveSubjects(subjects);
+                ChangeBus.SUBJECTS.publish(new SubjectEvent(ChangeType.DELETED, subject, null));
+            }
+
+            return removed;
+        });
+    }
+
+    public static synchronized boolean updateSubject(String oldSubject, String newSubject) {
+        return Metrics.time("SubjectHelper.updateSubject", () -> {
+            if (newSubject == null || newSubject.trim().isEmpty()) {
+                return false;
+            }
+
+            List<String> subjects = subjects();
+            int index = subjects.indexOf(oldSubject);
+
+            if (index != -1 && !subjects.contains(newSubject.trim())) {
+                subjects.set(index, newSubject.trim());
+                saveSubjects(subjects);
+
+                // Task menyimpan id subject, jadi tasks.csv tidak perlu ditulis ulang
+                CSVHelper.renameSubject(oldSubject, newSubject.trim());
+                ChangeBus.SUBJECTS.publish(new SubjectEvent(ChangeType.SUBJECT_RENAMED, oldSubject, newSubject.trim()));
+                return true;
+            }
+
+            return false;
+        });
+    }
+
+    private static List<String> subjects() {
+        if (subjects == null) {
+            subjects = readSubjects();
+        }
+        return subjects;
+    }
+
+    private static List<String> readSubjects() {
         initializeSubjects();
         List<String> subjects = new ArrayList<>();
 
@@ -54,63 +136,7 @@ public class SubjectHelper {
         return subjects;
     }
 
-    public static boolean addSubject(String subject) {
-        if (subject == null || subject.trim().isEmpty()) {
-            return false;
-        }
-
-        List<String> subjects = getAllSubjects();
-
-        if (subjects.contains(subject.trim())) {
-            return false;
-        }
-
-        subjects.add(subject.trim());
-        saveSubjects(subjects);
-        return true;
-    }
-
-    public static boolean deleteSubject(String subject) {
-        List<String> subjects = getAllSubjects();
-        boolean removed = subjects.remove(subject);
-
-        if (removed) {
-            saveSubjects(subjects);
-        }
-
-        return removed;
-    }
-
-    public static boolean updateSubject(String oldSubject, String newSubject) {
-        if (newSubject == null || newSubject.trim().isEmpty()) {
-            return false;
-        }
-
-        List<String> subjects = getAllSubjects();
-        int index = subjects.indexOf(oldSubject);
-
-        if (index != -1) {
-            subjects.set(index, newSubject.trim());
-            saveSubjects(subjects);
-
-            CSVHelper.updateTasksSubject(oldSubject, newSubject.trim());
-            return true;
-        }
-
-        return false;
-    }
-
     private static void saveSubjects(List<String> subjects) {
-        try {
-            BufferedWriter writer = new BufferedWriter(new FileWriter(SUBJECTS_FILE));
-            for (String subject : subjects) {
-                writer.write(subject);
-                writer.newLine();
-            }
-            writer.close();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        CSVHelper.replaceFile(SUBJECTS_FILE, subjects);
     }
 }
-
@@ -0,0 +1,7 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.Task;
+
+// Untuk DELETED, task berisi data terakhir sebelum dihapus
+public record TaskEvent(ChangeType type, Task task) {
+}
@@ -0,0 +1,160 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.Task;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+// tasks.idx: offset dan panjang baris setiap task di tasks.csv menurut id, ditulis setiap kali
+// tasks.csv ditulis ulang (atau dibangun saat load kalau belum ada). Satu task bisa dibaca dan
+// di-decode tanpa membaca file lainnya. Ukuran dan waktu ubah tasks.csv ikut dicatat; kalau
+// berbeda, index dianggap basi dan tidak dipakai.
+final class TaskFileIndex {
+    static final String TASKS_IDX = CSVHelper.DATA_DIR + "/tasks.idx";
+    private static final int MAGIC = 0x53594E49; // "SYNI"
+
+    private final long fileSize;
+    private final long fileModified;
+    private final LongIntMap entryByKey;
+    private final long[] offsets;
+    private final int[] lengths;
+
+    private TaskFileIndex(long fileSize, long fileModified, LongIntMap entryByKey, long[] offsets, int[] lengths) {
+        this.fileSize = fileSize;
+        this.fileModified = fileModified;
+        this.entryByKey = entryByKey;
+        this.offsets = offsets;
+        this.lengths = lengths;
+    }
+
+    // null kalau tasks.idx belum ada, rusak, atau bukan untuk isi tasks.csv saat ini
+    static TaskFileIndex load() {
+        Path path = Paths.get(TASKS_IDX);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            int count = BinarySnapshot.readHeader(in, MAGIC);
+            if (count < 0) {
+                return null;
+            }
+            long size = in.readLong();
+            long modified = in.readLong();
+            LongIntMap entryByKey = new LongIntMap(count);
+            long[] offsets = new long[count];
+            int[] lengths = new int[count];
+            for (int i = 0; i < count; i++) {
+                entryByKey.put(in.readLong(), i);
+                offsets[i] = in.readLong();
+                lengths[i] = in.readInt();
+            }
+            TaskFileIndex index = new TaskFileIndex(size, modified, entryByKey, offsets, lengths);
+            return index.isCurrent() ? index : null;
+        } catch (IOException e) {
+            Metrics.operation("TaskFileIndex.load").error();
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    boolean isCurrent() {
+        try {
+            Path data = Paths.get(CSVHelper.TASKS_FILE);
+            return Files.size(data) == fileSize && Files.getLastModifiedTime(data).toMillis() == fileModified;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // Task dengan key itu dari tasks.csv, atau null kalau tidak ada di file. IOException kalau
+    // tasks.csv sudah berubah sejak index ditulis.
+    Task read(long key) throws IOException {
+        int entry = entryByKey.get(key);
+        if (entry == LongIntMap.MISSING) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(lengths[entry]);
+        try (FileChannel channel = FileChannel.open(Paths.get(CSVHelper.TASKS_FILE), StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offsets[entry] + buffer.position()) < 0) {
+                    throw new IOException(TASKS_IDX + " basi");
+                }
+            }
+        }
+        Task task = CSVHelper.parseTaskLine(new String(buffer.array(), StandardCharsets.UTF_8));
+        // Waktu ubah file bisa kasar (per detik), jadi isi barisnya tetap dicek
+        if (task == null || task.getKey() != key) {
+            throw new IOException(TASKS_IDX + " basi");
+        }
+        Metrics.operation("TaskFileIndex.read").addBytesRead(lengths[entry]);
+        return task;
+    }
+
+    // Diisi sambil tasks.csv ditulis atau dibaca; key yang sama muncul dua kali -> yang terakhir menang
+    static class Builder {
+        private long[] keys;
+        private long[] offsets;
+        private int[] lengths;
+        private int size = 0;
+
+        Builder(int expected) {
+            int capacity = Math.max(16, expected);
+            keys = new long[capacity];
+            offsets = new long[capacity];
+            lengths = new int[capacity];
+        }
+
+        void add(long key, long offset, int length) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+                lengths = Arrays.copyOf(lengths, size * 2);
+            }
+            keys[size] = key;
+            offsets[size] = offset;
+            lengths[size] = length;
+            size++;
+        }
+
+        void addAll(Builder other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.keys[i], other.offsets[i], other.lengths[i]);
+            }
+        }
+
+        // Dipanggil setelah tasks.csv selesai diganti, supaya ukuran dan waktu ubah yang dicatat benar
+        boolean write() {
+            long fileSize;
+            long fileModified;
+            try {
+                Path data = Paths.get(CSVHelper.TASKS_FILE);
+                fileSize = Files.size(data);
+                fileModified = Files.getLastModifiedTime(data).toMillis();
+            } catch (IOException e) {
+                e.printStackTrace();
+                return false;
+            }
+            return CSVHelper.replaceFile(TASKS_IDX, stream -> {
+                DataOutputStream out = new DataOutputStream(stream);
+                BinarySnapshot.writeHeader(out, MAGIC, size);
+                out.writeLong(fileSize);
+                out.writeLong(fileModified);
+                for (int i = 0; i < size; i++) {
+                    out.writeLong(keys[i]);
+                    out.writeLong(offsets[i]);
+                    out.writeInt(lengths[i]);
+                }
+                out.flush();
+            });
+        }
+    }
+}
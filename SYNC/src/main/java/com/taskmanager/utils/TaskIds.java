@@ -0,0 +1,67 @@
+package com.taskmanager.utils;
+
+// Id task 64-bit gaya Snowflake: 41 bit milidetik sejak EPOCH | 10 bit node | 12 bit sequence.
+// Selalu naik dalam satu node dan tidak pernah bentrok antar node yang node id-nya berbeda.
+//
+// Id lama (8 karakter hex dari UUID) tetap valid: nilainya < 2^32, sedangkan id baru selalu
+// >= 2^44, jadi keduanya bisa hidup berdampingan tanpa perlu menulis ulang data lama.
+public class TaskIds {
+    private static final long EPOCH = 1735689600000L; // 2025-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final long LEGACY_LIMIT = 1L << 32;
+    private static final int LEGACY_LENGTH = 8;
+
+    private static final long NODE = nodeId();
+    private static long lastMillis = -1;
+    private static long sequence = 0;
+
+    // -Dsync.node.id=0..1023 kalau beberapa instance menulis ke data yang sama
+    private static long nodeId() {
+        Integer configured = Integer.getInteger("sync.node.id");
+        if (configured != null) {
+            return configured & ((1 << NODE_BITS) - 1);
+        }
+        String host = System.getenv().getOrDefault("HOSTNAME", System.getenv().getOrDefault("COMPUTERNAME", ""));
+        long seed = host.hashCode() * 31L + ProcessHandle.current().pid();
+        return seed & ((1 << NODE_BITS) - 1);
+    }
+
+    public static synchronized long next() {
+        long now = Math.max(System.currentTimeMillis() - EPOCH, lastMillis);
+        if (now == lastMillis) {
+            sequence++;
+            if (sequence > MAX_SEQUENCE) {
+                // sequence habis atau jam mundur: pinjam milidetik berikutnya, tidak perlu menunggu
+                now++;
+                sequence = 0;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = now;
+        return now << (NODE_BITS + SEQUENCE_BITS) | NODE << SEQUENCE_BITS | sequence;
+    }
+
+    // NumberFormatException untuk id yang bukan hex, baris seperti itu diperlakukan sebagai baris rusak.
+    // Mulai sekitar 2033 (now >= 2^38) id baru sudah 16 digit hex; bit tanda tidak pernah dipakai.
+    public static long parse(String id) {
+        if (id == null || id.isEmpty() || id.length() > 16) {
+            throw new NumberFormatException("Invalid task id: " + id);
+        }
+        long value = Long.parseUnsignedLong(id, 16);
+        if (value < 0) {
+            throw new NumberFormatException("Invalid task id: " + id);
+        }
+        return value;
+    }
+
+    public static String format(long id) {
+        String hex = Long.toHexString(id);
+        if (id < LEGACY_LIMIT && hex.length() < LEGACY_LENGTH) {
+            return "00000000".substring(hex.length()) + hex;
+        }
+        return hex;
+    }
+}
@@ -0,0 +1,92 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.Task;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Posisi record terakhir setiap id di tasks.log (dan tasks.log.old), dibangun dengan satu kali
+// membaca journal. Sesudah itu CsvTaskStore.read cukup membaca satu record, tidak seluruh journal.
+// Rename subject berlaku untuk semua task, jadi disimpan terpisah beserta urutannya: hanya rename
+// yang terjadi sesudah record terakhir task itu yang diterapkan.
+final class TaskJournalIndex {
+    private final LongIntMap entryByKey = new LongIntMap();
+    private boolean[] rotated = new boolean[16];
+    private long[] offsets = new long[16];
+    // -1 kalau record terakhirnya delete
+    private int[] lengths = new int[16];
+    private int[] renamesBefore = new int[16];
+    private int size = 0;
+    private final List<String[]> renames = new ArrayList<>();
+
+    private TaskJournalIndex() {
+    }
+
+    static TaskJournalIndex build(AppendLog journal) {
+        TaskJournalIndex index = new TaskJournalIndex();
+        journal.scan(index::add);
+        return index;
+    }
+
+    // Kolom id dibaca tanpa men-decode isi task
+    private void add(String record, boolean inRotated, long offset, int length) {
+        if (record.startsWith(CsvTaskStore.RENAME)) {
+            String[] names = new String[2];
+            if (CsvCodec.parse(record, 1, names) == 2) {
+                renames.add(names);
+            }
+            return;
+        }
+        boolean delete = record.startsWith(CsvTaskStore.DELETE);
+        if (!delete && !record.startsWith(CsvTaskStore.UPSERT)) {
+            return;
+        }
+        long key;
+        try {
+            key = TaskIds.parse(CsvCodec.field(record, 1));
+        } catch (NumberFormatException e) {
+            return;
+        }
+
+        int entry = entryByKey.get(key);
+        if (entry == LongIntMap.MISSING) {
+            if (size == offsets.length) {
+                rotated = Arrays.copyOf(rotated, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+                lengths = Arrays.copyOf(lengths, size * 2);
+                renamesBefore = Arrays.copyOf(renamesBefore, size * 2);
+            }
+            entry = size++;
+            entryByKey.put(key, entry);
+        }
+        rotated[entry] = inRotated;
+        offsets[entry] = offset;
+        lengths[entry] = delete ? -1 : length;
+        renamesBefore[entry] = renames.size();
+    }
+
+    // LongIntMap.MISSING kalau id tidak ada di journal (isinya masih sama dengan tasks.csv)
+    int entry(long key) {
+        return entryByKey.get(key);
+    }
+
+    boolean isDeleted(int entry) {
+        return lengths[entry] < 0;
+    }
+
+    // Record upsert terakhir untuk entry itu, null kalau journal sudah berubah sejak index dibangun
+    String record(AppendLog journal, int entry) {
+        return journal.readAt(rotated[entry], offsets[entry], lengths[entry]);
+    }
+
+    // entry MISSING: task dari tasks.csv, semua rename di journal berlaku
+    void applyRenames(Task task, int entry) {
+        int from = entry == LongIntMap.MISSING ? 0 : renamesBefore[entry];
+        for (int i = from; i < renames.size(); i++) {
+            String[] names = renames.get(i);
+            if (names[0].equals(task.getCategory())) {
+                task.setCategory(names[1]);
+            }
+        }
+    }
+}
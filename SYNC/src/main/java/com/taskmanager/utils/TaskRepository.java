@@ -0,0 +1,614 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskFilter;
+import com.taskmanager.model.TaskPriority;
+import com.taskmanager.model.TaskStatus;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class TaskRepository {
+    // tasks.csv dibaca sekali, setelah itu semua read dilayani dari memory.
+    // Task disimpan rapat di slots (urutan sama dengan file), slotById memetakan id -> posisi di slots.
+    private static final List<Task> slots = new ArrayList<>();
+    private static final LongIntMap slotById = new LongIntMap();
+    private static int liveCount = 0;
+    private static final Map<String, UserTasks> tasksByUser = new HashMap<>();
+    // Posisi task tiap slot di UserTasks pemiliknya
+    private static int[] slotPositions = new int[16];
+    // Statistik per user plus kontribusi terakhir tiap slot, karena task sering diubah langsung
+    // (instance yang sama) sebelum updateTask dipanggil sehingga nilai lamanya sudah hilang
+    private static final Map<String, UserTaskStats> statsByUser = new HashMap<>();
+    private static int[] slotFacets = new int[16];
+    private static long[] slotDeadlines = new long[16];
+    // Semua task yang belum done dan punya deadline, dipakai ReminderScheduler
+    private static final DeadlineIndex openDeadlines = new DeadlineIndex();
+    // Indeks pencarian per user; slotTerms menyimpan postings yang diisi tiap slot untuk dihapus lagi
+    private static final Map<String, SearchIndex> searchByUser = new HashMap<>();
+    private static SearchIndex.Postings[][] slotTerms = new SearchIndex.Postings[16][];
+    // Bitmap per nilai facet untuk filter board
+    private static final FacetIndex facets = new FacetIndex();
+    // volatile karena getTaskById memeriksanya tanpa lock selama preload
+    private static volatile boolean loaded = false;
+    private static final int SEARCH_LIMIT = 2000;
+    private static final long DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
+    private static volatile TaskStore store = Stores.taskStore();
+    private static final Object compactLock = new Object();
+    private static final ExecutorService compactor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "task-log-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static boolean compacting = false;
+
+    // Ganti backend (misalnya MemoryTaskStore untuk benchmark), data dimuat ulang dari store baru
+    public static synchronized void useStore(TaskStore taskStore) {
+        store.flush();
+        store = taskStore;
+        loaded = false;
+    }
+
+    public static synchronized void reload() {
+        slots.clear();
+        slotById.clear();
+        liveCount = 0;
+        tasksByUser.clear();
+        statsByUser.clear();
+        openDeadlines.clear();
+        searchByUser.clear();
+        Arrays.fill(slotTerms, null);
+        facets.clear();
+
+        for (Task task : store.loadAll()) {
+            index(task);
+        }
+        loaded = true;
+        scheduleCompaction();
+    }
+
+    // Dipanggil saat aplikasi start supaya parsing tidak terjadi di JavaFX thread
+    public static void preload() {
+        Thread loader = new Thread(() -> {
+            synchronized (TaskRepository.class) {
+                ensureLoaded();
+            }
+        }, "task-preload");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    private static void ensureLoaded() {
+        if (!loaded) {
+            reload();
+        }
+    }
+
+    public static synchronized List<Task> getTasksByUsername(String username) {
+        ensureLoaded();
+        UserTasks user = tasksByUser.get(username);
+        List<Task> result = new ArrayList<>(user != null ? user.live : 0);
+        if (user != null) {
+            for (Task task : user.tasks) {
+                if (task != null) {
+                    result.add(task);
+                }
+            }
+        }
+        return result;
+    }
+
+    public static synchronized TaskStats getTaskStats(String username) {
+        ensureLoaded();
+        UserTaskStats stats = statsByUser.get(username);
+        return (stats != null ? stats : new UserTaskStats()).snapshot(System.currentTimeMillis());
+    }
+
+    // Task milik user yang belum done dengan deadline sebelum untilMillis (termasuk yang overdue),
+    // urut dari deadline terdekat
+    public static synchronized List<Task> getTasksDueBefore(String username, long untilMillis) {
+        ensureLoaded();
+        List<Task> result = new ArrayList<>();
+        UserTaskStats stats = statsByUser.get(username);
+        if (stats != null) {
+            stats.openDeadlines().collectBetween(Long.MIN_VALUE, untilMillis, result);
+        }
+        return result;
+    }
+
+    public static synchronized int countTasksDueBefore(String username, long untilMillis) {
+        ensureLoaded();
+        UserTaskStats stats = statsByUser.get(username);
+        return stats != null ? stats.openDeadlines().countBefore(untilMillis) : 0;
+    }
+
+    // Deadline terkecil (semua user) yang >= millis, Long.MAX_VALUE kalau tidak ada
+    static synchronized long nextDeadlineAtOrAfter(long millis) {
+        ensureLoaded();
+        return openDeadlines.firstAtOrAfter(millis);
+    }
+
+    static synchronized List<Task> getAllTasksDueBetween(long from, long to) {
+        ensureLoaded();
+        List<Task> result = new ArrayList<>();
+        openDeadlines.collectBetween(from, to, result);
+        return result;
+    }
+
+    // Task milik user yang cocok dengan query, skor tertinggi dulu lalu urutan board. Hasil dibatasi
+    // karena board tidak berguna menampilkan ratusan ribu kartu untuk query satu huruf.
+    public static synchronized List<Task> searchTasks(String username, String query, TaskFilter filter) {
+        ensureLoaded();
+        List<Task> result = new ArrayList<>();
+        SearchIndex index = searchByUser.get(username);
+        int ownerId = StringDictionary.OWNERS.find(username);
+        if (index == null || ownerId == StringDictionary.NONE) {
+            return result;
+        }
+
+        List<String> tokens = SearchIndex.queryTokens(query);
+        SlotBitmap owned = facets.owner(ownerId);
+        SlotBitmap[] subjectSlots = new SlotBitmap[tokens.size()];
+        for (int t = 0; t < tokens.size(); t++) {
+            subjectSlots[t] = subjectsMatching(tokens.get(t), owned);
+        }
+        SlotBitmap allowed = filter.isEmpty() ? null : matching(username, filter, true);
+        for (int slot : index.search(tokens, subjectSlots, slots.size(), SEARCH_LIMIT, allowed)) {
+            result.add(slots.get(slot));
+        }
+        return result;
+    }
+
+    // Subject dicocokkan lewat namanya di StringDictionary (hanya beberapa puluh), lalu slot-nya
+    // diambil dari bitmap facet
+    private static SlotBitmap subjectsMatching(String token, SlotBitmap owned) {
+        List<SlotBitmap> bitmaps = new ArrayList<>();
+        for (int id = 0; id < StringDictionary.SUBJECTS.size(); id++) {
+            for (String word : SearchIndex.tokenize(StringDictionary.SUBJECTS.valueOf(id))) {
+                if (word.startsWith(token)) {
+                    bitmaps.add(facets.subject(id));
+                    break;
+                }
+            }
+        }
+        return bitmaps.isEmpty() ? null : SlotBitmap.and(union(bitmaps), owned);
+    }
+
+    // Task yang lolos semua facet filter, urutan board
+    public static synchronized List<Task> filterTasks(String username, TaskFilter filter) {
+        ensureLoaded();
+        List<Task> result = new ArrayList<>();
+        matching(username, filter, true).forEach(slot -> result.add(slots.get(slot)));
+        return result;
+    }
+
+    // Jumlah task per subject dengan facet lain tetap diterapkan (filter subject sendiri diabaikan
+    // supaya subject lain tetap terlihat angkanya)
+    public static synchronized Map<String, Integer> countTasksBySubject(String username, TaskFilter filter) {
+        ensureLoaded();
+        return facets.countBySubject(matching(username, filter, false));
+    }
+
+    // Nama owner atau subject yang tidak ada di StringDictionary tidak punya task, jadi dilewati
+    // (tidak didaftarkan); kalau semuanya begitu hasilnya kosong
+    private static SlotBitmap matching(String username, TaskFilter filter, boolean withSubjects) {
+        List<String> owners = filter.getOwners().isEmpty() ? List.of(username) : new ArrayList<>(filter.getOwners());
+        List<SlotBitmap> ownerBitmaps = new ArrayList<>();
+        for (String owner : owners) {
+            int ownerId = StringDictionary.OWNERS.find(owner);
+            if (ownerId != StringDictionary.NONE) {
+                ownerBitmaps.add(facets.owner(ownerId));
+            }
+        }
+        if (ownerBitmaps.isEmpty()) {
+            return new SlotBitmap();
+        }
+        SlotBitmap result = union(ownerBitmaps);
+
+        if (!filter.getStatuses().isEmpty()) {
+            List<SlotBitmap> bitmaps = new ArrayList<>();
+            for (TaskStatus status : filter.getStatuses()) {
+                bitmaps.add(facets.status(status));
+            }
+            result = SlotBitmap.and(result, union(bitmaps));
+        }
+        if (!filter.getPriorities().isEmpty()) {
+            List<SlotBitmap> bitmaps = new ArrayList<>();
+            for (TaskPriority priority : filter.getPriorities()) {
+                bitmaps.add(facets.priority(priority));
+            }
+            result = SlotBitmap.and(result, union(bitmaps));
+        }
+        if (withSubjects && !filter.getSubjects().isEmpty()) {
+            List<SlotBitmap> bitmaps = new ArrayList<>();
+            for (String subject : filter.getSubjects()) {
+                int subjectId = StringDictionary.SUBJECTS.find(subject);
+                if (subjectId != StringDictionary.NONE) {
+                    bitmaps.add(facets.subject(subjectId));
+                }
+            }
+            if (bitmaps.isEmpty()) {
+                return new SlotBitmap();
+            }
+            result = SlotBitmap.and(result, union(bitmaps));
+        }
+        if (!filter.getDeadlines().isEmpty()) {
+            List<SlotBitmap> bitmaps = new ArrayList<>();
+            for (TaskFilter.Deadline deadline : filter.getDeadlines()) {
+                bitmaps.add(deadline == TaskFilter.Deadline.NONE ? facets.withoutDeadline() : dueIn(owners, deadline));
+            }
+            result = SlotBitmap.and(result, union(bitmaps));
+        }
+        return result;
+    }
+
+    // Bucket deadline relatif ke sekarang, jadi bitmap-nya dibuat dari rentang DeadlineIndex
+    // (hanya task yang belum done) saat query
+    private static SlotBitmap dueIn(List<String> owners, TaskFilter.Deadline deadline) {
+        long now = System.currentTimeMillis();
+        long from;
+        long to;
+        switch (deadline) {
+            case OVERDUE -> {
+                from = Long.MIN_VALUE;
+                to = now;
+            }
+            case DUE_SOON -> {
+                from = now;
+                to = now + DAY_MILLIS;
+            }
+            case THIS_WEEK -> {
+                from = now;
+                to = now + 7 * DAY_MILLIS;
+            }
+            default -> {
+                from = now + 7 * DAY_MILLIS;
+                to = Long.MAX_VALUE;
+            }
+        }
+
+        List<Task> due = new ArrayList<>();
+        for (String owner : owners) {
+            UserTaskStats stats = statsByUser.get(owner);
+            if (stats != null) {
+                stats.openDeadlines().collectBetween(from, to, due);
+            }
+        }
+        int[] dueSlots = new int[due.size()];
+        for (int i = 0; i < dueSlots.length; i++) {
+            dueSlots[i] = slotById.get(due.get(i).getKey());
+        }
+        Arrays.sort(dueSlots);
+        SlotBitmap bitmap = new SlotBitmap();
+        for (int slot : dueSlots) {
+            bitmap.add(slot);
+        }
+        return bitmap;
+    }
+
+    private static SlotBitmap union(List<SlotBitmap> bitmaps) {
+        SlotBitmap result = bitmaps.get(0);
+        for (int i = 1; i < bitmaps.size(); i++) {
+            result = SlotBitmap.or(result, bitmaps.get(i));
+        }
+        return result;
+    }
+
+    // Selama preload masih berjalan, store membaca satu task lewat index-nya (tasks.idx untuk CSV)
+    // daripada menunggu seluruh file selesai dimuat
+    public static Task getTaskById(String taskId) {
+        if (!loaded) {
+            Task task = store.read(taskId);
+            if (task != null) {
+                return task;
+            }
+        }
+        synchronized (TaskRepository.class) {
+            ensureLoaded();
+            try {
+                return lookup(TaskIds.parse(taskId));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+
+    public static synchronized void saveTask(Task task) {
+        ensureLoaded();
+        Task existing = lookup(task.getKey());
+        if (existing != null && existing != task) {
+            // id sudah dipakai task lain: beri id baru daripada diam-diam menimpa task tersebut
+            task.setKey(TaskIds.next());
+        }
+        index(task);
+        store.upsert(task);
+        scheduleCompaction();
+        ChangeBus.TASKS.publish(new TaskEvent(ChangeType.CREATED, task));
+    }
+
+    public static synchronized void updateTask(Task updatedTask) {
+        ensureLoaded();
+        Task existing = lookup(updatedTask.getKey());
+        if (existing == null) {
+            return;
+        }
+
+        index(updatedTask);
+        store.upsert(updatedTask);
+        scheduleCompaction();
+        ChangeBus.TASKS.publish(new TaskEvent(ChangeType.UPDATED, updatedTask));
+    }
+
+    public static synchronized void deleteTask(String taskId) {
+        ensureLoaded();
+        long key;
+        try {
+            key = TaskIds.parse(taskId);
+        } catch (NumberFormatException e) {
+            return;
+        }
+        Task removed = unindex(key);
+        if (removed == null) {
+            return;
+        }
+        store.delete(taskId);
+        scheduleCompaction();
+        ChangeBus.TASKS.publish(new TaskEvent(ChangeType.DELETED, removed));
+    }
+
+    public static synchronized int countTasksWithSubject(String subject) {
+        ensureLoaded();
+        int subjectId = StringDictionary.SUBJECTS.find(subject);
+        return subjectId == StringDictionary.NONE ? 0 : facets.subject(subjectId).cardinality();
+    }
+
+    // Task menyimpan id subject, jadi rename cukup mengganti nama di dictionary dan satu record
+    // di store. Id nama baru yang sudah tidak punya task dilepas dulu; kalau masih dipakai task,
+    // task dipindah satu per satu.
+    public static synchronized void renameSubject(String oldSubject, String newSubject) {
+        ensureLoaded();
+        int existing = StringDictionary.SUBJECTS.find(newSubject);
+        if (existing != StringDictionary.NONE && facets.subject(existing).cardinality() == 0) {
+            StringDictionary.SUBJECTS.forget(newSubject);
+        }
+        if (!StringDictionary.SUBJECTS.rename(oldSubject, newSubject)) {
+            updateTasksSubject(oldSubject, newSubject);
+            return;
+        }
+        store.renameSubject(oldSubject, newSubject);
+        scheduleCompaction();
+    }
+
+    public static synchronized void updateTasksSubject(String oldSubject, String newSubject) {
+        ensureLoaded();
+        List<Task> changed = new ArrayList<>();
+
+        for (Task task : slots) {
+            if (task != null && oldSubject.equals(task.getCategory())) {
+                task.setCategory(newSubject);
+                changed.add(task);
+            }
+        }
+
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        for (Task task : changed) {
+            index(task);
+            store.upsert(task);
+        }
+        scheduleCompaction();
+        for (Task task : changed) {
+            ChangeBus.TASKS.publish(new TaskEvent(ChangeType.UPDATED, task));
+        }
+    }
+
+    // Dipanggil saat aplikasi ditutup: tulis semua yang masih tertunda
+    public static void flush() {
+        TaskStore current;
+        synchronized (TaskRepository.class) {
+            current = store;
+        }
+        current.flush();
+        compact();
+    }
+
+    // Compaction dijalankan di background kalau store memintanya (log terlalu besar, snapshot kotor)
+    private static void scheduleCompaction() {
+        if (!compacting && store.needsCompaction(liveCount)) {
+            compacting = true;
+            compactor.execute(() -> {
+                compact();
+                synchronized (TaskRepository.class) {
+                    compacting = false;
+                    // perubahan yang masuk selama snapshot ditulis
+                    scheduleCompaction();
+                }
+            });
+        }
+    }
+
+    private static void compact() {
+        synchronized (compactLock) {
+            TaskStore current;
+            List<Task> snapshot;
+            synchronized (TaskRepository.class) {
+                current = store;
+                if (!loaded || !current.needsCompaction(liveCount)) {
+                    return;
+                }
+                current.beginCompaction();
+                // Disalin di dalam lock karena updateTasksSubject mengubah task di tempat;
+                // controller sendiri hanya mengedit salinan (Task.copy) lalu memanggil updateTask
+                snapshot = new ArrayList<>(liveCount);
+                for (Task task : slots) {
+                    if (task != null) {
+                        snapshot.add(task.copy());
+                    }
+                }
+            }
+            current.finishCompaction(snapshot);
+        }
+    }
+
+    private static Task lookup(long key) {
+        int slot = slotById.get(key);
+        return slot == LongIntMap.MISSING ? null : slots.get(slot);
+    }
+
+    private static void index(Task task) {
+        int slot = slotById.get(task.getKey());
+        if (slot == LongIntMap.MISSING) {
+            slots.add(task);
+            slot = slots.size() - 1;
+            slotById.put(task.getKey(), slot);
+            liveCount++;
+            count(slot, task);
+            addToUser(task, slot);
+            return;
+        }
+
+        Task previous = slots.set(slot, task);
+        uncount(slot, previous);
+        count(slot, task);
+        if (previous == task) {
+            return;
+        }
+        if (previous.getCreatedBy().equals(task.getCreatedBy())) {
+            // posisi task di board tetap sama
+            tasksByUser.get(task.getCreatedBy()).tasks.set(slotPositions[slot], task);
+            return;
+        }
+        removeFromUser(previous, slot);
+        addToUser(task, slot);
+    }
+
+    private static Task unindex(long key) {
+        int slot = slotById.remove(key);
+        if (slot == LongIntMap.MISSING) {
+            return null;
+        }
+        Task removed = slots.set(slot, null);
+        liveCount--;
+        removeFromUser(removed, slot);
+        uncount(slot, removed);
+        slotTerms[slot] = null;
+
+        if (slots.size() > 64 && liveCount < slots.size() / 2) {
+            compactSlots();
+        }
+        return removed;
+    }
+
+    // Buang slot kosong bekas delete, urutan task tetap
+    private static void compactSlots() {
+        int[] newSlotOf = new int[slots.size()];
+        int target = 0;
+        for (int i = 0; i < slots.size(); i++) {
+            Task task = slots.get(i);
+            newSlotOf[i] = target;
+            if (task != null) {
+                slots.set(target, task);
+                slotById.put(task.getKey(), target);
+                slotFacets[target] = slotFacets[i];
+                slotDeadlines[target] = slotDeadlines[i];
+                slotTerms[target] = slotTerms[i];
+                slotPositions[target] = slotPositions[i];
+                target++;
+            }
+        }
+        Arrays.fill(slotTerms, target, slots.size(), null);
+        slots.subList(target, slots.size()).clear();
+        for (SearchIndex index : searchByUser.values()) {
+            index.remap(newSlotOf);
+        }
+        facets.clear();
+        for (int slot = 0; slot < target; slot++) {
+            facets.add(slot, slotFacets[slot], slots.get(slot).getOwnerId(), hasDeadline(slotDeadlines[slot]));
+        }
+    }
+
+    private static void count(int slot, Task task) {
+        if (slot >= slotFacets.length) {
+            int capacity = Math.max(slot + 1, slotFacets.length * 2);
+            slotFacets = Arrays.copyOf(slotFacets, capacity);
+            slotDeadlines = Arrays.copyOf(slotDeadlines, capacity);
+            slotTerms = Arrays.copyOf(slotTerms, capacity);
+            slotPositions = Arrays.copyOf(slotPositions, capacity);
+        }
+        slotFacets[slot] = UserTaskStats.facetsOf(task);
+        slotDeadlines[slot] = task.getDeadlineMillis();
+        statsByUser.computeIfAbsent(task.getCreatedBy(), k -> new UserTaskStats())
+                .add(task, slotFacets[slot], slotDeadlines[slot]);
+        if (UserTaskStats.isOpen(slotFacets[slot], slotDeadlines[slot])) {
+            openDeadlines.add(slotDeadlines[slot], task);
+        }
+        facets.add(slot, slotFacets[slot], task.getOwnerId(), hasDeadline(slotDeadlines[slot]));
+        slotTerms[slot] = searchByUser.computeIfAbsent(task.getCreatedBy(), k -> new SearchIndex()).add(slot, task);
+    }
+
+    private static void uncount(int slot, Task task) {
+        facets.remove(slot, slotFacets[slot], task.getOwnerId(), hasDeadline(slotDeadlines[slot]));
+        if (UserTaskStats.isOpen(slotFacets[slot], slotDeadlines[slot])) {
+            openDeadlines.remove(slotDeadlines[slot], task);
+        }
+        searchByUser.get(task.getCreatedBy()).remove(slot, slotTerms[slot]);
+        UserTaskStats stats = statsByUser.get(task.getCreatedBy());
+        stats.remove(task, slotFacets[slot], slotDeadlines[slot]);
+        if (stats.isEmpty()) {
+            statsByUser.remove(task.getCreatedBy());
+        }
+    }
+
+    private static boolean hasDeadline(long deadline) {
+        return deadline != Task.NO_DEADLINE && deadline != Task.INVALID_DEADLINE;
+    }
+
+    // Task satu user dalam urutan board. Delete hanya mengosongkan posisinya, jadi update dan delete
+    // tidak perlu mencari task di list; list dipadatkan kalau lebih dari separuhnya kosong.
+    private static final class UserTasks {
+        final List<Task> tasks = new ArrayList<>();
+        int live = 0;
+    }
+
+    private static void addToUser(Task task, int slot) {
+        UserTasks user = tasksByUser.computeIfAbsent(task.getCreatedBy(), k -> new UserTasks());
+        slotPositions[slot] = user.tasks.size();
+        user.tasks.add(task);
+        user.live++;
+    }
+
+    private static void removeFromUser(Task task, int slot) {
+        UserTasks user = tasksByUser.get(task.getCreatedBy());
+        if (user == null) {
+            return;
+        }
+        user.tasks.set(slotPositions[slot], null);
+        user.live--;
+        if (user.live == 0) {
+            tasksByUser.remove(task.getCreatedBy());
+        } else if (user.tasks.size() > 64 && user.live < user.tasks.size() / 2) {
+            compactUser(user);
+        }
+    }
+
+    // Urutan board tetap, posisi task yang bergeser dicatat ulang lewat slot-nya
+    private static void compactUser(UserTasks user) {
+        int target = 0;
+        for (int i = 0; i < user.tasks.size(); i++) {
+            Task task = user.tasks.get(i);
+            if (task != null) {
+                user.tasks.set(target, task);
+                slotPositions[slotById.get(task.getKey())] = target;
+                target++;
+            }
+        }
+        user.tasks.subList(target, user.tasks.size()).clear();
+    }
+}
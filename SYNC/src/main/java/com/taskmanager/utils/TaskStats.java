@@ -0,0 +1,52 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.TaskPriority;
+import com.taskmanager.model.TaskStatus;
+import java.util.Collections;
+import java.util.Map;
+
+// Snapshot statistik task milik satu user, diambil dari UserTaskStats tanpa menghitung ulang task
+public class TaskStats {
+    private final int total;
+    private final int[] byStatus;
+    private final int[] byPriority;
+    private final Map<String, Integer> bySubject;
+    private final int overdue;
+
+    TaskStats(int total, int[] byStatus, int[] byPriority, Map<String, Integer> bySubject, int overdue) {
+        this.total = total;
+        this.byStatus = byStatus;
+        this.byPriority = byPriority;
+        this.bySubject = Collections.unmodifiableMap(bySubject);
+        this.overdue = overdue;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getCount(TaskStatus status) {
+        return byStatus[status.ordinal()];
+    }
+
+    public int getCount(TaskPriority priority) {
+        return byPriority[priority.ordinal()];
+    }
+
+    public Map<String, Integer> getSubjectCounts() {
+        return bySubject;
+    }
+
+    public double getDoneRatio() {
+        return total > 0 ? (double) getCount(TaskStatus.DONE) / total : 0;
+    }
+
+    public int getCompletionRate() {
+        return (int) Math.round(getDoneRatio() * 100);
+    }
+
+    // Task yang belum done dan deadline-nya sudah lewat saat snapshot diambil
+    public int getOverdue() {
+        return overdue;
+    }
+}
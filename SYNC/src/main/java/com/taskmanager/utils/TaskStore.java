@@ -0,0 +1,40 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.Task;
+import java.util.List;
+
+// Backend penyimpanan task di belakang TaskRepository. Repository memegang index di memory,
+// store cukup memuat semua task sekali dan mencatat setiap perubahan.
+public interface TaskStore {
+
+    List<Task> loadAll();
+
+    void upsert(Task task);
+
+    void delete(String taskId);
+
+    // Satu task tanpa loadAll, untuk lookup selagi repository masih memuat. null kalau store tidak
+    // bisa menjawab tanpa load penuh; pemanggil lalu menunggu loadAll seperti biasa.
+    default Task read(String taskId) {
+        return null;
+    }
+
+    // Semua task dengan subject oldName sekarang bernama newName; dipanggil sekali per rename,
+    // bukan sekali per task
+    void renameSubject(String oldName, String newName);
+
+    // Compaction: begin dipanggil di dalam lock repository bersamaan dengan pengambilan snapshot,
+    // finish dipanggil di background dengan snapshot tersebut.
+    default boolean needsCompaction(int liveTasks) {
+        return false;
+    }
+
+    default void beginCompaction() {
+    }
+
+    default void finishCompaction(List<Task> snapshot) {
+    }
+
+    default void flush() {
+    }
+}
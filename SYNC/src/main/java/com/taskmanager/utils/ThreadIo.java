@@ -0,0 +1,17 @@
+package com.taskmanager.utils;
+
+// Jumlah task dan byte storage yang sudah dilewati thread ini. Event JFR mengambil selisihnya
+// antara awal dan akhir event; hanya diakses dari thread pemiliknya jadi tidak perlu atomic.
+final class ThreadIo {
+    private static final ThreadLocal<ThreadIo> CURRENT = ThreadLocal.withInitial(ThreadIo::new);
+
+    long tasks;
+    long bytesRead;
+    long bytesWritten;
+    // Kedalaman Metrics.time, task hanya dihitung di panggilan terluar
+    int depth;
+
+    static ThreadIo current() {
+        return CURRENT.get();
+    }
+}
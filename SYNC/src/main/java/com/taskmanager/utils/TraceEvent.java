@@ -0,0 +1,76 @@
+package com.taskmanager.utils;
+
+import java.util.function.Supplier;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+// Dasar event JFR aplikasi: durasi dari begin/end, layar yang tampil saat event dimulai, dan
+// jumlah task serta byte storage yang dilewati selama event. Kalau event tidak aktif di
+// recording, start() tidak mengambil snapshot apa pun dan finish() langsung kembali.
+@StackTrace(false)
+abstract class TraceEvent extends Event {
+    @Label("View")
+    public String view;
+
+    @Label("Task Count")
+    public long taskCount;
+
+    @Label("Bytes Read")
+    @DataAmount
+    public long bytesRead;
+
+    @Label("Bytes Written")
+    @DataAmount
+    public long bytesWritten;
+
+    private transient ThreadIo io;
+    private transient long startTasks;
+    private transient long startRead;
+    private transient long startWritten;
+
+    final void start() {
+        if (isEnabled()) {
+            view = Metrics.currentView();
+            io = ThreadIo.current();
+            startTasks = io.tasks;
+            startRead = io.bytesRead;
+            startWritten = io.bytesWritten;
+            begin();
+        }
+    }
+
+    // Harus dipanggil dari thread yang sama dengan start()
+    public final void finish() {
+        if (io == null) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            taskCount += io.tasks - startTasks;
+            bytesRead += io.bytesRead - startRead;
+            bytesWritten += io.bytesWritten - startWritten;
+            commit();
+        }
+    }
+
+    // Untuk bagian event yang berjalan di thread lain (mis. AsyncStore): task dan byte yang
+    // dilewati call di thread itu ikut dijumlahkan ke event ini
+    public final <T> T measure(Supplier<T> call) {
+        if (io == null) {
+            return call.get();
+        }
+        ThreadIo local = ThreadIo.current();
+        long tasks = local.tasks;
+        long read = local.bytesRead;
+        long written = local.bytesWritten;
+        try {
+            return call.get();
+        } finally {
+            taskCount += local.tasks - tasks;
+            bytesRead += local.bytesRead - read;
+            bytesWritten += local.bytesWritten - written;
+        }
+    }
+}
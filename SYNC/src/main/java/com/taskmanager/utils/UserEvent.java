@@ -0,0 +1,6 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.User;
+
+public record UserEvent(ChangeType type, User user) {
+}
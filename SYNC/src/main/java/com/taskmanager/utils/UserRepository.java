@@ -0,0 +1,150 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.User;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class UserRepository {
+    // users.csv dibaca sekali, index utama username dan index kedua email
+    private static final Map<String, User> usersByName = new LinkedHashMap<>();
+    private static final Map<String, List<User>> usersByEmail = new HashMap<>();
+    private static final Map<String, String> indexedEmail = new HashMap<>();
+    private static boolean loaded = false;
+
+    private static UserStore store = Stores.userStore();
+    private static final Object compactLock = new Object();
+    private static final ExecutorService compactor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "user-log-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static boolean compacting = false;
+
+    public static synchronized void useStore(UserStore userStore) {
+        store.flush();
+        store = userStore;
+        loaded = false;
+    }
+
+    public static synchronized void reload() {
+        usersByName.clear();
+        usersByEmail.clear();
+        indexedEmail.clear();
+
+        for (User user : store.loadAll()) {
+            index(user);
+        }
+        loaded = true;
+        scheduleCompaction();
+    }
+
+    private static void ensureLoaded() {
+        if (!loaded) {
+            reload();
+        }
+    }
+
+    public static synchronized User getUserByUsername(String username) {
+        ensureLoaded();
+        return usersByName.get(username);
+    }
+
+    // Email tidak unik, jadi semua user dengan email itu dikembalikan
+    public static synchronized List<User> getUsersByEmail(String email) {
+        ensureLoaded();
+        List<User> users = email != null ? usersByEmail.get(email.toLowerCase(Locale.ROOT)) : null;
+        return users != null ? new ArrayList<>(users) : new ArrayList<>();
+    }
+
+    public static synchronized boolean userExists(String username) {
+        ensureLoaded();
+        return usersByName.containsKey(username);
+    }
+
+    public static synchronized void saveUser(User user) {
+        ensureLoaded();
+        index(user);
+        store.upsert(user);
+        scheduleCompaction();
+        ChangeBus.USERS.publish(new UserEvent(ChangeType.CREATED, user));
+    }
+
+    public static synchronized boolean updateUser(User updatedUser) {
+        ensureLoaded();
+        if (!usersByName.containsKey(updatedUser.getUsername())) {
+            return false;
+        }
+        index(updatedUser);
+        store.upsert(updatedUser);
+        scheduleCompaction();
+        ChangeBus.USERS.publish(new UserEvent(ChangeType.UPDATED, updatedUser));
+        return true;
+    }
+
+    public static void flush() {
+        UserStore current;
+        synchronized (UserRepository.class) {
+            current = store;
+        }
+        current.flush();
+        compact();
+    }
+
+    private static void scheduleCompaction() {
+        if (!compacting && store.needsCompaction(usersByName.size())) {
+            compacting = true;
+            compactor.execute(() -> {
+                compact();
+                synchronized (UserRepository.class) {
+                    compacting = false;
+                    scheduleCompaction();
+                }
+            });
+        }
+    }
+
+    private static void compact() {
+        synchronized (compactLock) {
+            UserStore current;
+            List<User> snapshot;
+            synchronized (UserRepository.class) {
+                current = store;
+                if (!loaded || !current.needsCompaction(usersByName.size())) {
+                    return;
+                }
+                current.beginCompaction();
+                snapshot = new ArrayList<>(usersByName.size());
+                for (User user : usersByName.values()) {
+                    snapshot.add(new User(user.getUsername(), user.getPasswordHash(),
+                            user.getEmail(), user.getCreatedAt()));
+                }
+            }
+            current.finishCompaction(snapshot);
+        }
+    }
+
+    // Email bisa berubah lewat setEmail sebelum updateUser, jadi email lama dicatat per username
+    private static void index(User user) {
+        usersByName.put(user.getUsername(), user);
+
+        String oldEmail = indexedEmail.remove(user.getUsername());
+        if (oldEmail != null) {
+            List<User> users = usersByEmail.get(oldEmail);
+            users.removeIf(u -> u.getUsername().equals(user.getUsername()));
+            if (users.isEmpty()) {
+                usersByEmail.remove(oldEmail);
+            }
+        }
+        if (user.getEmail() != null && !user.getEmail().isEmpty()) {
+            String email = user.getEmail().toLowerCase(Locale.ROOT);
+            usersByEmail.computeIfAbsent(email, k -> new ArrayList<>(1)).add(user);
+            indexedEmail.put(user.getUsername(), email);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.User;
+import java.util.List;
+
+// Backend penyimpanan user di belakang UserRepository, kontraknya sama dengan TaskStore
+public interface UserStore {
+
+    List<User> loadAll();
+
+    void upsert(User user);
+
+    default boolean needsCompaction(int liveUsers) {
+        return false;
+    }
+
+    default void beginCompaction() {
+    }
+
+    default void finishCompaction(List<User> snapshot) {
+    }
+
+    default void flush() {
+    }
+}
@@ -0,0 +1,113 @@
+package com.taskmanager.utils;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskPriority;
+import com.taskmanager.model.TaskStatus;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Statistik satu user yang di-update setiap kali task ditambah/diubah/dihapus, jadi dashboard
+// dan profile tidak perlu menghitung ulang semua task. Kontribusi satu task diringkas ke
+// "facets" (status, priority, subject) + deadline supaya bisa dikurangi lagi saat task berubah.
+class UserTaskStats {
+    private static final int STATUS_BITS = 2;
+    private static final int PRIORITY_BITS = 2;
+    private static final int SUBJECT_SHIFT = STATUS_BITS + PRIORITY_BITS;
+
+    private final int[] byStatus = new int[TaskStatus.values().length];
+    private final int[] byPriority = new int[TaskPriority.values().length];
+    // index = id subject di StringDictionary.SUBJECTS + 1, index 0 untuk task tanpa subject
+    private int[] bySubject = new int[8];
+    private int total = 0;
+
+    // Task yang belum done per deadline. overdue = jumlah deadline < overdueAsOf,
+    // dimajukan sedikit demi sedikit setiap snapshot diminta.
+    private final DeadlineIndex openDeadlines = new DeadlineIndex();
+    private int overdue = 0;
+    private long overdueAsOf = Long.MIN_VALUE;
+
+    static int facetsOf(Task task) {
+        return (task.getCategoryId() + 1) << SUBJECT_SHIFT
+                | task.getPriority().ordinal() << STATUS_BITS
+                | task.getStatus().ordinal();
+    }
+
+    static int statusOf(int facets) {
+        return facets & ((1 << STATUS_BITS) - 1);
+    }
+
+    static int priorityOf(int facets) {
+        return (facets >>> STATUS_BITS) & ((1 << PRIORITY_BITS) - 1);
+    }
+
+    static int subjectOf(int facets) {
+        return facets >>> SUBJECT_SHIFT;
+    }
+
+    static boolean isOpen(int facets, long deadline) {
+        return statusOf(facets) != TaskStatus.DONE.ordinal()
+                && deadline != Task.NO_DEADLINE && deadline != Task.INVALID_DEADLINE;
+    }
+
+    void add(Task task, int facets, long deadline) {
+        apply(facets, deadline, 1);
+        if (isOpen(facets, deadline)) {
+            openDeadlines.add(deadline, task);
+        }
+    }
+
+    void remove(Task task, int facets, long deadline) {
+        apply(facets, deadline, -1);
+        if (isOpen(facets, deadline)) {
+            openDeadlines.remove(deadline, task);
+        }
+    }
+
+    private void apply(int facets, long deadline, int delta) {
+        total += delta;
+        byStatus[statusOf(facets)] += delta;
+        byPriority[priorityOf(facets)] += delta;
+
+        int subject = subjectOf(facets);
+        if (subject >= bySubject.length) {
+            bySubject = Arrays.copyOf(bySubject, Math.max(subject + 1, bySubject.length * 2));
+        }
+        bySubject[subject] += delta;
+
+        if (isOpen(facets, deadline) && deadline < overdueAsOf) {
+            overdue += delta;
+        }
+    }
+
+    boolean isEmpty() {
+        return total == 0;
+    }
+
+    DeadlineIndex openDeadlines() {
+        return openDeadlines;
+    }
+
+    TaskStats snapshot(long now) {
+        advanceOverdue(now);
+
+        Map<String, Integer> subjects = new LinkedHashMap<>();
+        for (int i = 0; i < bySubject.length; i++) {
+            if (bySubject[i] > 0) {
+                String name = StringDictionary.SUBJECTS.valueOf(i - 1);
+                subjects.merge(name != null ? name : "", bySubject[i], Integer::sum);
+            }
+        }
+        return new TaskStats(total, byStatus.clone(), byPriority.clone(), subjects, overdue);
+    }
+
+    // Hanya deadline yang terlewati sejak snapshot terakhir yang dihitung
+    private void advanceOverdue(long now) {
+        if (now > overdueAsOf) {
+            overdue += openDeadlines.countBetween(overdueAsOf, now);
+        } else {
+            overdue -= openDeadlines.countBetween(now, overdueAsOf);
+        }
+        overdueAsOf = now;
+    }
+}
@@ -0,0 +1,23 @@
+package com.taskmanager.utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.taskmanager.ViewRefresh")
+@Label("View Refresh")
+@Category({"SYNC", "UI"})
+@Description("TasksViewController.refresh dari query ke store sampai kolom selesai diperbarui")
+public class ViewRefreshEvent extends TraceEvent {
+    @Label("Mode")
+    @Description("search, filter atau all")
+    public String mode;
+
+    public static ViewRefreshEvent start(String mode) {
+        ViewRefreshEvent event = new ViewRefreshEvent();
+        event.mode = mode;
+        event.start();
+        return event;
+    }
+}
@@ -0,0 +1,84 @@
+package com.taskmanager.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Menampung record log sebentar: record dengan key yang sama (id task) digabung,
+// lalu ditulis sekaligus dengan satu fsync per batch.
+public class WriteBehindQueue {
+    // Satu thread flush dan satu shutdown hook untuk semua antrian, dibuat saat antrian pertama dibuat
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "write-behind-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Set<WriteBehindQueue> queues = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(WriteBehindQueue::flushAll, "write-behind-shutdown"));
+    }
+
+    private final AppendLog log;
+    private final long flushMillis;
+    private final int maxBatch;
+
+    private final Map<String, String> pending = new LinkedHashMap<>();
+    private final Object flushLock = new Object();
+    private boolean scheduled = false;
+
+    public WriteBehindQueue(AppendLog log, long flushMillis, int maxBatch) {
+        this.log = log;
+        this.flushMillis = flushMillis;
+        this.maxBatch = maxBatch;
+        queues.add(this);
+    }
+
+    private static void flushAll() {
+        List<WriteBehindQueue> open;
+        synchronized (queues) {
+            open = new ArrayList<>(queues);
+        }
+        for (WriteBehindQueue queue : open) {
+            queue.flush();
+        }
+    }
+
+    public void submit(String key, String record) {
+        boolean flushNow;
+        synchronized (this) {
+            pending.put(key, record);
+            flushNow = flushMillis <= 0 || pending.size() >= maxBatch;
+            if (!flushNow && !scheduled) {
+                scheduled = true;
+                scheduler.schedule(this::flush, flushMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (flushNow) {
+            flush();
+        }
+    }
+
+    // flushLock menjaga urutan batch: batch yang diambil lebih dulu juga ditulis lebih dulu
+    public void flush() {
+        synchronized (flushLock) {
+            List<String> batch;
+            synchronized (this) {
+                batch = new ArrayList<>(pending.values());
+                pending.clear();
+                scheduled = false;
+            }
+            if (!batch.isEmpty()) {
+                log.appendBatch(batch);
+            }
+        }
+    }
+}
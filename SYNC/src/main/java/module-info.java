@@ -12,6 +12,9 @@ module com.taskmanager {
     requires org.kordamp.bootstrapfx.core;
     requires eu.hansolo.tilesfx;
     requires com.almasb.fxgl.all;
+    requires java.sql;
+    requires java.management;
+    requires jdk.jfr;
 
     opens com.taskmanager to javafx.fxml;
     opens com.taskmanager.controller to javafx.fxml;
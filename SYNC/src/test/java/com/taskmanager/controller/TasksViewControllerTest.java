@@ -0,0 +1,96 @@
+package com.taskmanager.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskPriority;
+import com.taskmanager.model.TaskStatus;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.junit.jupiter.api.Test;
+
+class TasksViewControllerTest {
+
+    private static Task task(long key) {
+        return new Task(key, "Tugas " + key, "", "Umum", TaskPriority.values()[0], TaskStatus.DRAFT, 0, "alice",
+                0, Task.INVALID_DEADLINE);
+    }
+
+    private static void assertItems(List<Task> expected, ObservableList<Task> items) {
+        assertEquals(expected.size(), items.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), items.get(i), "posisi " + i);
+        }
+    }
+
+    // Daftar yang sama persis tidak boleh memicu perubahan apa pun di ListView
+    @Test
+    void unchangedListFiresNoChange() {
+        List<Task> tasks = new ArrayList<>();
+        for (long key = 0; key < 20; key++) {
+            tasks.add(task(key));
+        }
+        ObservableList<Task> items = FXCollections.observableArrayList(tasks);
+        int[] changes = {0};
+        items.addListener((ListChangeListener<Task>) change -> changes[0]++);
+
+        TasksViewController.applyDiff(items, new ArrayList<>(tasks));
+        assertEquals(0, changes[0]);
+    }
+
+    @Test
+    void updatedInstanceReplacesCardInPlace() {
+        Task a = task(1);
+        Task b = task(2);
+        ObservableList<Task> items = FXCollections.observableArrayList(a, b);
+        Task edited = b.copy();
+        edited.setTitle("baru");
+
+        TasksViewController.applyDiff(items, List.of(a, edited));
+        assertItems(List.of(a, edited), items);
+    }
+
+    // Urutan acak, task hilang/baru, dan instance baru untuk key yang sama (hasil edit)
+    @Test
+    void matchesRandomTargetLists() {
+        Random random = new Random(5);
+        List<Task> pool = new ArrayList<>();
+        for (long key = 0; key < 40; key++) {
+            pool.add(task(key));
+        }
+        ObservableList<Task> items = FXCollections.observableArrayList();
+
+        for (int round = 0; round < 2000; round++) {
+            List<Task> target = new ArrayList<>();
+            for (int k = 0; k < pool.size(); k++) {
+                if (random.nextInt(3) != 0) {
+                    continue;
+                }
+                if (random.nextInt(5) == 0) {
+                    pool.set(k, pool.get(k).copy());
+                }
+                target.add(pool.get(k));
+            }
+            switch (random.nextInt(3)) {
+                case 0 -> Collections.shuffle(target, random);
+                case 1 -> {
+                    // Satu kartu dipindah, sisanya tetap: kasus drag and drop
+                    if (target.size() > 1) {
+                        target.add(random.nextInt(target.size()), target.remove(random.nextInt(target.size())));
+                    }
+                }
+                default -> {
+                }
+            }
+
+            TasksViewController.applyDiff(items, target);
+            assertItems(target, items);
+        }
+    }
+}
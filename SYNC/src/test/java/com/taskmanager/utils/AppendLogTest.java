@@ -0,0 +1,155 @@
+package com.taskmanager.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AppendLogTest {
+    // "xxxxxxxx:" di depan setiap record
+    private static final int CHECKSUM_AND_SEPARATOR = 9;
+
+    @TempDir
+    Path dir;
+
+    // Nama file dipakai sebagai nama metrics, jadi setiap test memakai nama sendiri
+    private static long errors(Path file) {
+        return Metrics.operation("AppendLog.read:" + file.getFileName()).getErrors();
+    }
+
+    @Test
+    void appendedRecordsAreReadBackInOrder() {
+        Path file = dir.resolve("order.log");
+        AppendLog log = new AppendLog(file.toString());
+        log.append("U,1,satu");
+        log.appendBatch(List.of("U,2,dua", "D,1", "U,3,tiga é"));
+
+        assertEquals(List.of("U,1,satu", "U,2,dua", "D,1", "U,3,tiga é"), log.readAll());
+        assertEquals(4, log.size());
+        assertEquals(4, new AppendLog(file.toString()).size());
+    }
+
+    // Record rusak di tengah dilewati dan dihitung sebagai error, file tidak dipotong
+    @Test
+    void corruptRecordInTheMiddleIsSkipped() throws IOException {
+        Path file = dir.resolve("middle.log");
+        AppendLog log = new AppendLog(file.toString());
+        log.appendBatch(List.of("a", "bbbb", "c"));
+        byte[] data = Files.readAllBytes(file);
+        int b = indexOf(data, "bbbb");
+        data[b + 1] = 'x';
+        Files.write(file, data);
+        long before = errors(file);
+
+        assertEquals(List.of("a", "c"), new AppendLog(file.toString()).readAll());
+        assertEquals(1, errors(file) - before);
+        assertArrayEquals(data, Files.readAllBytes(file));
+    }
+
+    // Crash di tengah append: ekor tanpa record valid sesudahnya dibuang tanpa error
+    @Test
+    void tornTailIsTruncated() throws IOException {
+        Path file = dir.resolve("tail.log");
+        AppendLog log = new AppendLog(file.toString());
+        log.appendBatch(List.of("a", "b"));
+        long validLength = Files.size(file);
+        Files.write(file, "1234abcd:setengah".getBytes(StandardCharsets.US_ASCII), StandardOpenOption.APPEND);
+        long before = errors(file);
+
+        AppendLog reopened = new AppendLog(file.toString());
+        assertEquals(List.of("a", "b"), reopened.readAll());
+        assertEquals(0, errors(file) - before);
+        assertEquals(validLength, Files.size(file));
+
+        // Append sesudahnya mulai di baris baru, bukan menyambung sampah
+        reopened.append("c");
+        assertEquals(List.of("a", "b", "c"), new AppendLog(file.toString()).readAll());
+    }
+
+    @Test
+    void corruptRecordFollowedByTornTail() throws IOException {
+        Path file = dir.resolve("both.log");
+        AppendLog log = new AppendLog(file.toString());
+        log.appendBatch(List.of("a", "bbbb", "c", "dddd"));
+        byte[] data = Files.readAllBytes(file);
+        data[indexOf(data, "bbbb")] = 'x';
+        int d = indexOf(data, "dddd");
+        data[d] = 'x';
+        byte[] torn = Arrays.copyOf(data, data.length - 2);
+        Files.write(file, torn);
+        long before = errors(file);
+
+        assertEquals(List.of("a", "c"), new AppendLog(file.toString()).readAll());
+        assertEquals(1, errors(file) - before);
+        assertEquals(d - CHECKSUM_AND_SEPARATOR, Files.size(file));
+    }
+
+    @Test
+    void rotatedLogIsReplayedFirst() throws IOException {
+        Path file = dir.resolve("rotate.log");
+        AppendLog log = new AppendLog(file.toString());
+        log.append("lama");
+        assertTrue(log.rotate());
+        assertFalse(log.rotate());
+        log.append("baru");
+
+        assertEquals(List.of("lama", "baru"), new AppendLog(file.toString()).readAll());
+        log.discardRotated();
+        assertFalse(Files.exists(dir.resolve("rotate.log.old")));
+        assertEquals(List.of("baru"), new AppendLog(file.toString()).readAll());
+    }
+
+    // Posisi dari scan dipakai readAt; posisi yang sudah tidak berisi record valid memberi null
+    @Test
+    void recordsCanBeReadBackByPosition() {
+        Path file = dir.resolve("position.log");
+        AppendLog log = new AppendLog(file.toString());
+        log.append("lama");
+        log.rotate();
+        log.appendBatch(List.of("satu", "dua é"));
+
+        List<String> records = new ArrayList<>();
+        List<long[]> positions = new ArrayList<>();
+        log.scan((record, rotated, offset, length) -> {
+            records.add(record);
+            positions.add(new long[] {rotated ? 1 : 0, offset, length});
+        });
+        assertEquals(List.of("lama", "satu", "dua é"), records);
+        for (int i = 0; i < records.size(); i++) {
+            long[] p = positions.get(i);
+            assertEquals(records.get(i), log.readAt(p[0] == 1, p[1], (int) p[2]));
+        }
+
+        long[] dua = positions.get(2);
+        assertNull(log.readAt(false, dua[1] + 1, (int) dua[2]));
+        log.discardRotated();
+        long[] lama = positions.get(0);
+        assertNull(log.readAt(true, lama[1], (int) lama[2]));
+    }
+
+    private static int indexOf(byte[] data, String text) {
+        byte[] needle = text.getBytes(StandardCharsets.US_ASCII);
+        outer:
+        for (int i = 0; i + needle.length <= data.length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (data[i + j] != needle[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,107 @@
+package com.taskmanager.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class CsvCodecTest {
+
+    @Test
+    void plainFieldsAreWrittenAsIs() {
+        assertEquals("a,b,,c", CsvCodec.format("a", "b", "", "c"));
+        assertArrayEquals(new String[] {"a", "b", "", "c"}, CsvCodec.parse("a,b,,c"));
+        assertArrayEquals(new String[] {""}, CsvCodec.parse(""));
+        assertArrayEquals(new String[] {"a", ""}, CsvCodec.parse("a,"));
+    }
+
+    @Test
+    void nullIsWrittenAsEmptyField() {
+        assertEquals("a,,b", CsvCodec.format("a", null, "b"));
+    }
+
+    @Test
+    void commasAndQuotesAreQuoted() {
+        assertEquals("\"a,b\",\"say \"\"hi\"\"\"", CsvCodec.format("a,b", "say \"hi\""));
+        assertArrayEquals(new String[] {"a,b", "say \"hi\""}, CsvCodec.parse("\"a,b\",\"say \"\"hi\"\"\""));
+    }
+
+    // Baris baru tidak boleh muncul apa adanya karena semua pembaca memecah record per baris
+    @Test
+    void newlinesAndBackslashesAreEscaped() {
+        String line = CsvCodec.format("baris 1\nbaris 2\r\n", "C:\\data", "a,\nb");
+        assertFalse(line.contains("\n"));
+        assertFalse(line.contains("\r"));
+        assertEquals("baris 1\\nbaris 2\\r\\n,C:\\\\data,\"a,\\nb\"", line);
+        assertArrayEquals(new String[] {"baris 1\nbaris 2\r\n", "C:\\data", "a,\nb"}, CsvCodec.parse(line));
+    }
+
+    @Test
+    void unknownEscapesFromOldFilesAreKept() {
+        assertArrayEquals(new String[] {"C:\\data", "tab\\t", "ujung\\"}, CsvCodec.parse("C:\\data,tab\\t,ujung\\"));
+        assertArrayEquals(new String[] {"dua\nbaris"}, CsvCodec.parse("dua\\nbaris"));
+    }
+
+    @Test
+    void parseIntoCallerArray() {
+        String[] fields = new String[3];
+        assertEquals(4, CsvCodec.parse("U,\"a,b\",c,d", fields));
+        assertArrayEquals(new String[] {"U", "a,b", "c"}, fields);
+
+        // Mulai kolom 1: jenis record journal dilewati
+        assertEquals(3, CsvCodec.parse("U,\"a,b\",c,d", 1, fields));
+        assertArrayEquals(new String[] {"a,b", "c", "d"}, fields);
+        assertEquals(0, CsvCodec.parse("a,b", 2, fields));
+    }
+
+    // Kolom lain hanya dilewati; isi yang dibandingkan adalah isi sesudah quote dan escape dibuka
+    @Test
+    void fieldScanWithoutDecodingOtherColumns() {
+        String line = CsvCodec.format("id1", "judul, \"baru\"", "dua\nbaris", "C:\\data", "alice");
+
+        assertEquals("judul, \"baru\"", CsvCodec.field(line, 1));
+        assertEquals("dua\nbaris", CsvCodec.field(line, 2));
+        assertEquals("alice", CsvCodec.field(line, 4));
+        assertNull(CsvCodec.field(line, 5));
+
+        assertTrue(CsvCodec.fieldEquals(line, 0, "id1"));
+        assertTrue(CsvCodec.fieldEquals(line, 1, "judul, \"baru\""));
+        assertTrue(CsvCodec.fieldEquals(line, 2, "dua\nbaris"));
+        assertTrue(CsvCodec.fieldEquals(line, 3, "C:\\data"));
+        assertTrue(CsvCodec.fieldEquals(line, 4, "alice"));
+        assertFalse(CsvCodec.fieldEquals(line, 4, "alic"));
+        assertFalse(CsvCodec.fieldEquals(line, 4, "alicex"));
+        assertFalse(CsvCodec.fieldEquals(line, 1, "judul"));
+        assertFalse(CsvCodec.fieldEquals(line, 5, ""));
+        assertTrue(CsvCodec.fieldEquals("a,,b", 1, ""));
+    }
+
+    @Test
+    void randomFieldsRoundTrip() {
+        Random random = new Random(11);
+        char[] alphabet = {'a', 'b', ' ', ',', '"', '\n', '\r', '\\', 'n', 'r', 'é'};
+        for (int round = 0; round < 20_000; round++) {
+            String[] fields = new String[1 + random.nextInt(6)];
+            for (int f = 0; f < fields.length; f++) {
+                StringBuilder sb = new StringBuilder();
+                int length = random.nextInt(8);
+                for (int c = 0; c < length; c++) {
+                    sb.append(alphabet[random.nextInt(alphabet.length)]);
+                }
+                fields[f] = sb.toString();
+            }
+            String line = CsvCodec.format(fields);
+            assertFalse(line.contains("\n"), line);
+            assertArrayEquals(fields, CsvCodec.parse(line), line);
+            for (int f = 0; f < fields.length; f++) {
+                assertEquals(fields[f], CsvCodec.field(line, f), line);
+                assertTrue(CsvCodec.fieldEquals(line, f, fields[f]), line);
+                assertFalse(CsvCodec.fieldEquals(line, f, fields[f] + "a"), line);
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.taskmanager.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LongIntMapTest {
+
+    @Test
+    void putGetAndOverwrite() {
+        LongIntMap map = new LongIntMap();
+        map.put(7, 1);
+        map.put(0, 2);
+        map.put(7, 3);
+
+        assertEquals(3, map.get(7));
+        assertEquals(2, map.get(0));
+        assertEquals(LongIntMap.MISSING, map.get(8));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void negativeKeysAreRejectedOrMissing() {
+        LongIntMap map = new LongIntMap();
+        assertThrows(IllegalArgumentException.class, () -> map.put(-5, 1));
+        assertEquals(LongIntMap.MISSING, map.get(-5));
+        assertFalse(map.containsKey(-5));
+        assertEquals(LongIntMap.MISSING, map.remove(-5));
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        LongIntMap map = new LongIntMap(2);
+        for (int i = 0; i < 10_000; i++) {
+            map.put(i * 31L, i);
+        }
+        assertEquals(10_000, map.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, map.get(i * 31L));
+        }
+    }
+
+    @Test
+    void removeKeepsProbeChainsIntact() {
+        LongIntMap map = new LongIntMap(64);
+        for (long key = 0; key < 60; key++) {
+            map.put(key, (int) key);
+        }
+        // Hapus setiap key kedua: entry yang tergeser ke belakang harus tetap ketemu
+        for (long key = 0; key < 60; key += 2) {
+            assertEquals((int) key, map.remove(key));
+        }
+        for (long key = 0; key < 60; key++) {
+            assertEquals(key % 2 == 0 ? LongIntMap.MISSING : (int) key, map.get(key));
+        }
+        assertEquals(30, map.size());
+        assertEquals(LongIntMap.MISSING, map.remove(0));
+    }
+
+    // Tabel kecil yang hampir penuh: banyak cluster dan wrap-around di ujung array,
+    // jadi backward shift di remove ikut teruji di semua posisi
+    @Test
+    void matchesHashMapUnderRandomPutAndRemove() {
+        Random random = new Random(42);
+        LongIntMap map = new LongIntMap(8);
+        Map<Long, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(64);
+            if (random.nextInt(3) == 0) {
+                Integer removed = expected.remove(key);
+                assertEquals(removed != null ? removed : LongIntMap.MISSING, map.remove(key));
+            } else {
+                int value = random.nextInt(1_000_000);
+                expected.put(key, value);
+                map.put(key, value);
+            }
+            if (i % 1000 == 0) {
+                for (long k = 0; k < 64; k++) {
+                    Integer value = expected.get(k);
+                    assertEquals(value != null ? value : LongIntMap.MISSING, map.get(k));
+                    assertEquals(value != null, map.containsKey(k));
+                }
+            }
+        }
+        assertEquals(expected.size(), map.size());
+    }
+
+    @Test
+    void clearEmptiesTheMap() {
+        LongIntMap map = new LongIntMap();
+        map.put(1, 1);
+        map.put(2, 2);
+        map.clear();
+
+        assertEquals(0, map.size());
+        assertFalse(map.containsKey(1));
+        map.put(1, 5);
+        assertTrue(map.containsKey(1));
+        assertEquals(5, map.get(1));
+    }
+}
@@ -0,0 +1,232 @@
+package com.taskmanager.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskPriority;
+import com.taskmanager.model.TaskStatus;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class SearchIndexTest {
+    private static final String[] WORDS = {"basis", "basket", "data", "database", "java", "jadwal", "ujian", "uji",
+            "laporan", "lab", "kimia", "fisika"};
+
+    private static Task task(String title, String description) {
+        return new Task(1, title, description, "Umum", TaskPriority.values()[0], TaskStatus.DRAFT, 0, "alice",
+                0, Task.INVALID_DEADLINE);
+    }
+
+    private static int[] search(SearchIndex index, String query, int slotCount) {
+        List<String> tokens = SearchIndex.queryTokens(query);
+        return index.search(tokens, new SlotBitmap[tokens.size()], slotCount, 100, null);
+    }
+
+    @Test
+    void tokenizeSplitsOnNonLetters() {
+        assertEquals(List.of("tugas", "2", "basis", "data"), SearchIndex.tokenize("Tugas-2: Basis  DATA!"));
+        assertEquals(List.of(), SearchIndex.tokenize(null));
+        assertEquals(List.of("data", "basis"), SearchIndex.queryTokens("data Basis DATA"));
+    }
+
+    // Judul 4, deskripsi 1, keduanya 5; skor sama diurutkan slot terkecil
+    @Test
+    void ranksByScoreThenSlot() {
+        SearchIndex index = new SearchIndex();
+        index.add(0, task("lain", "java"));
+        index.add(1, task("java", "lain"));
+        index.add(2, task("java", "java"));
+        index.add(3, task("lain", "lain"));
+        index.add(4, task("java", ""));
+
+        assertArrayEquals(new int[] {2, 1, 4, 0}, search(index, "java", 5));
+        List<String> tokens = SearchIndex.queryTokens("java");
+        assertArrayEquals(new int[] {2, 1}, index.search(tokens, new SlotBitmap[1], 5, 2, null));
+    }
+
+    @Test
+    void everyTokenMustMatchByPrefix() {
+        SearchIndex index = new SearchIndex();
+        index.add(0, task("basis data", ""));
+        index.add(1, task("basket", "data"));
+        index.add(2, task("basis", ""));
+
+        assertArrayEquals(new int[] {0, 1, 2}, search(index, "bas", 3));
+        assertArrayEquals(new int[] {0, 1}, search(index, "bas dat", 3));
+        assertArrayEquals(new int[] {0}, search(index, "basis dat", 3));
+        assertArrayEquals(new int[0], search(index, "basis fisika", 3));
+        assertArrayEquals(new int[0], search(index, "", 3));
+    }
+
+    @Test
+    void subjectSlotsAndAllowedFilter() {
+        SearchIndex index = new SearchIndex();
+        index.add(0, task("laporan", ""));
+        index.add(1, task("laporan", ""));
+        index.add(2, task("tugas", ""));
+
+        SlotBitmap kimia = new SlotBitmap();
+        kimia.add(1);
+        kimia.add(2);
+        List<String> tokens = SearchIndex.queryTokens("laporan kimia");
+        assertArrayEquals(new int[] {1}, index.search(tokens, new SlotBitmap[] {null, kimia}, 3, 10, null));
+
+        // Subject saja juga cukup untuk satu kata, dengan bobot 2
+        tokens = SearchIndex.queryTokens("kimia");
+        assertArrayEquals(new int[] {1, 2}, index.search(tokens, new SlotBitmap[] {kimia}, 3, 10, null));
+
+        SlotBitmap allowed = new SlotBitmap();
+        allowed.add(2);
+        assertArrayEquals(new int[] {2}, index.search(tokens, new SlotBitmap[] {kimia}, 3, 10, allowed));
+    }
+
+    @Test
+    void removedSlotsAreSkippedAndCanBeReused() {
+        SearchIndex index = new SearchIndex();
+        SearchIndex.Postings[][] entries = new SearchIndex.Postings[8][];
+        for (int slot = 0; slot < 8; slot++) {
+            entries[slot] = index.add(slot, task("ujian " + slot, ""));
+        }
+        // Tiga dari delapan ditandai, belum dipadatkan
+        for (int slot : new int[] {1, 4, 6}) {
+            index.remove(slot, entries[slot]);
+        }
+        assertArrayEquals(new int[] {0, 2, 3, 5, 7}, search(index, "ujian", 8));
+
+        entries[4] = index.add(4, task("lab", "ujian"));
+        assertArrayEquals(new int[] {0, 2, 3, 5, 7, 4}, search(index, "ujian", 8));
+
+        // Lebih dari separuh bertanda: postings dipadatkan, hasil tetap sama
+        for (int slot : new int[] {0, 2, 3}) {
+            index.remove(slot, entries[slot]);
+        }
+        assertArrayEquals(new int[] {5, 7, 4}, search(index, "ujian", 8));
+        assertArrayEquals(new int[] {7}, search(index, "7", 8));
+        assertArrayEquals(new int[0], search(index, "0", 8));
+    }
+
+    @Test
+    void remapMovesSlotsAfterCompaction() {
+        SearchIndex index = new SearchIndex();
+        SearchIndex.Postings[][] entries = new SearchIndex.Postings[6][];
+        for (int slot = 0; slot < 6; slot++) {
+            entries[slot] = index.add(slot, task(slot % 2 == 0 ? "kimia" : "fisika", ""));
+        }
+        index.remove(0, entries[0]);
+        index.remove(3, entries[3]);
+
+        int[] newSlotOf = {-1, 0, 1, -1, 2, 3};
+        index.remap(newSlotOf);
+
+        assertArrayEquals(new int[] {1, 2}, search(index, "kimia", 4));
+        assertArrayEquals(new int[] {0, 3}, search(index, "fisika", 4));
+        index.add(4, task("kimia", ""));
+        assertArrayEquals(new int[] {1, 2, 4}, search(index, "kimia", 5));
+    }
+
+    // Beberapa indeks bergantian memakai state bersama, slotCount berubah-ubah, dibandingkan
+    // dengan pencarian brute force atas teks task yang masih hidup
+    @Test
+    void matchesBruteForceAcrossIndexesAndGenerations() {
+        Random random = new Random(3);
+        int indexCount = 3;
+        SearchIndex[] indexes = new SearchIndex[indexCount];
+        List<Map<Integer, Task>> live = new ArrayList<>();
+        List<Map<Integer, SearchIndex.Postings[]>> entries = new ArrayList<>();
+        int[] nextSlot = new int[indexCount];
+        for (int i = 0; i < indexCount; i++) {
+            indexes[i] = new SearchIndex();
+            live.add(new HashMap<>());
+            entries.add(new HashMap<>());
+        }
+
+        for (int round = 0; round < 3000; round++) {
+            int i = random.nextInt(indexCount);
+            Map<Integer, Task> tasks = live.get(i);
+            int action = random.nextInt(10);
+            if (action < 4 || tasks.isEmpty()) {
+                Task task = task(phrase(random), phrase(random));
+                int slot = nextSlot[i]++;
+                tasks.put(slot, task);
+                entries.get(i).put(slot, indexes[i].add(slot, task));
+            } else if (action < 6) {
+                Integer slot = new ArrayList<>(tasks.keySet()).get(random.nextInt(tasks.size()));
+                tasks.remove(slot);
+                indexes[i].remove(slot, entries.get(i).remove(slot));
+            } else if (action == 6) {
+                // Padatkan slot seperti TaskRepository
+                int[] newSlotOf = new int[nextSlot[i]];
+                Arrays.fill(newSlotOf, -1);
+                List<Integer> slots = new ArrayList<>(tasks.keySet());
+                slots.sort(null);
+                Map<Integer, Task> moved = new HashMap<>();
+                Map<Integer, SearchIndex.Postings[]> movedEntries = new HashMap<>();
+                for (int n = 0; n < slots.size(); n++) {
+                    newSlotOf[slots.get(n)] = n;
+                    moved.put(n, tasks.get(slots.get(n)));
+                    movedEntries.put(n, entries.get(i).get(slots.get(n)));
+                }
+                indexes[i].remap(newSlotOf);
+                live.set(i, moved);
+                entries.set(i, movedEntries);
+                nextSlot[i] = slots.size();
+            } else {
+                String query = random.nextInt(3) == 0
+                        ? WORDS[random.nextInt(WORDS.length)].substring(0, 2)
+                        : phrase(random);
+                List<String> tokens = SearchIndex.queryTokens(query);
+                int limit = 1 + random.nextInt(10);
+                int[] actual = indexes[i].search(tokens, new SlotBitmap[tokens.size()], nextSlot[i], limit, null);
+                assertArrayEquals(bruteForce(tasks, tokens, limit), actual, query);
+            }
+        }
+    }
+
+    private static String phrase(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int words = 1 + random.nextInt(3);
+        for (int w = 0; w < words; w++) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return sb.toString();
+    }
+
+    private static int[] bruteForce(Map<Integer, Task> tasks, List<String> tokens, int limit) {
+        Map<Integer, Integer> scores = new HashMap<>();
+        for (Map.Entry<Integer, Task> entry : tasks.entrySet()) {
+            Set<String> title = new LinkedHashSet<>(SearchIndex.tokenize(entry.getValue().getTitle()));
+            Set<String> description = new LinkedHashSet<>(SearchIndex.tokenize(entry.getValue().getDescription()));
+            Set<String> all = new LinkedHashSet<>(title);
+            all.addAll(description);
+            int score = 0;
+            boolean matched = true;
+            for (String token : tokens) {
+                int tokenScore = 0;
+                for (String term : all) {
+                    if (term.startsWith(token)) {
+                        tokenScore += (title.contains(term) ? 4 : 0) + (description.contains(term) ? 1 : 0);
+                    }
+                }
+                matched &= tokenScore > 0;
+                score += tokenScore;
+            }
+            if (matched && !tokens.isEmpty()) {
+                scores.put(entry.getKey(), score);
+            }
+        }
+        return scores.keySet().stream()
+                .sorted(Comparator.<Integer>comparingInt(scores::get).reversed().thenComparing(slot -> slot))
+                .limit(limit)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+}
@@ -0,0 +1,149 @@
+package com.taskmanager.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SlotBitmapTest {
+
+    private static BitSet toBitSet(SlotBitmap bitmap) {
+        BitSet bits = new BitSet();
+        bitmap.forEach(bits::set);
+        return bits;
+    }
+
+    private static void assertSame(BitSet expected, SlotBitmap actual) {
+        assertEquals(expected, toBitSet(actual));
+        assertEquals(expected.cardinality(), actual.cardinality());
+    }
+
+    @Test
+    void addRemoveContains() {
+        SlotBitmap bitmap = new SlotBitmap();
+        bitmap.add(3);
+        bitmap.add(70_000);
+        bitmap.add(3);
+
+        assertTrue(bitmap.contains(3));
+        assertTrue(bitmap.contains(70_000));
+        assertFalse(bitmap.contains(4));
+        assertEquals(2, bitmap.cardinality());
+
+        bitmap.remove(3);
+        bitmap.remove(5);
+        assertFalse(bitmap.contains(3));
+        assertEquals(1, bitmap.cardinality());
+    }
+
+    @Test
+    void forEachIsAscendingAcrossChunks() {
+        SlotBitmap bitmap = new SlotBitmap();
+        int[] slots = {200_000, 5, 65_536, 65_535, 131_072, 0};
+        for (int slot : slots) {
+            bitmap.add(slot);
+        }
+        int[] seen = new int[slots.length];
+        int[] n = {0};
+        bitmap.forEach(slot -> seen[n[0]++] = slot);
+        assertArrayEquals(new int[] {0, 5, 65_535, 65_536, 131_072, 200_000}, seen);
+    }
+
+    // Container array berubah jadi bitmap di atas ARRAY_MAX dan kembali ke array saat menyusut
+    @Test
+    void containerSwitchesBetweenArrayAndBitmap() {
+        SlotBitmap bitmap = new SlotBitmap();
+        BitSet expected = new BitSet();
+        for (int slot = 0; slot < 10_000; slot += 2) {
+            bitmap.add(slot);
+            expected.set(slot);
+        }
+        assertSame(expected, bitmap);
+        for (int slot = 0; slot < 10_000; slot++) {
+            assertEquals(expected.get(slot), bitmap.contains(slot));
+        }
+
+        for (int slot = 0; slot < 9_000; slot += 2) {
+            bitmap.remove(slot);
+            expected.clear(slot);
+        }
+        assertSame(expected, bitmap);
+        bitmap.add(1);
+        expected.set(1);
+        assertSame(expected, bitmap);
+    }
+
+    @Test
+    void removingLastSlotDropsContainer() {
+        SlotBitmap bitmap = new SlotBitmap();
+        bitmap.add(100_000);
+        bitmap.add(7);
+        bitmap.remove(100_000);
+        bitmap.add(100_001);
+
+        assertSame(bitsOf(7, 100_001), bitmap);
+    }
+
+    private static BitSet bitsOf(int... slots) {
+        BitSet bits = new BitSet();
+        for (int slot : slots) {
+            bits.set(slot);
+        }
+        return bits;
+    }
+
+    // Kombinasi kepadatan berbeda supaya semua pasangan array/bitmap ikut teruji
+    @Test
+    void setOperationsMatchBitSet() {
+        Random random = new Random(7);
+        int[] densities = {50, 3_000, 5_000, 40_000};
+        for (int da : densities) {
+            for (int db : densities) {
+                SlotBitmap a = new SlotBitmap();
+                SlotBitmap b = new SlotBitmap();
+                BitSet ea = new BitSet();
+                BitSet eb = new BitSet();
+                for (int i = 0; i < da; i++) {
+                    int slot = random.nextInt(200_000);
+                    a.add(slot);
+                    ea.set(slot);
+                }
+                for (int i = 0; i < db; i++) {
+                    int slot = random.nextInt(150_000);
+                    b.add(slot);
+                    eb.set(slot);
+                }
+
+                BitSet and = (BitSet) ea.clone();
+                and.and(eb);
+                BitSet or = (BitSet) ea.clone();
+                or.or(eb);
+
+                assertSame(and, SlotBitmap.and(a, b));
+                assertSame(or, SlotBitmap.or(a, b));
+                assertEquals(and.cardinality(), SlotBitmap.andCardinality(a, b));
+                // Operand tidak boleh ikut berubah
+                assertSame(ea, a);
+                assertSame(eb, b);
+            }
+        }
+    }
+
+    @Test
+    void clearEmptiesTheBitmap() {
+        SlotBitmap bitmap = new SlotBitmap();
+        for (int slot = 0; slot < 5_000; slot++) {
+            bitmap.add(slot);
+        }
+        bitmap.clear();
+
+        assertEquals(0, bitmap.cardinality());
+        assertFalse(bitmap.contains(1));
+        bitmap.add(1);
+        assertSame(bitsOf(1), bitmap);
+    }
+}
@@ -0,0 +1,37 @@
+package com.taskmanager.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class StringDictionaryTest {
+
+    // find dipakai query, jadi nama yang dicari tidak boleh ikut tersimpan
+    @Test
+    void findDoesNotIntern() {
+        StringDictionary dictionary = new StringDictionary();
+        int kimia = dictionary.idOf("Kimia");
+
+        assertEquals(kimia, dictionary.find("Kimia"));
+        assertEquals(StringDictionary.NONE, dictionary.find("Fisika"));
+        assertEquals(StringDictionary.NONE, dictionary.find(null));
+        assertEquals(1, dictionary.size());
+    }
+
+    @Test
+    void renameOntoForgottenName() {
+        StringDictionary dictionary = new StringDictionary();
+        int kimia = dictionary.idOf("Kimia");
+        int fisika = dictionary.idOf("Fisika");
+
+        assertFalse(dictionary.rename("Kimia", "Fisika"));
+        dictionary.forget("Fisika");
+        assertTrue(dictionary.rename("Kimia", "Fisika"));
+
+        assertEquals(kimia, dictionary.find("Fisika"));
+        assertEquals(StringDictionary.NONE, dictionary.find("Kimia"));
+        assertEquals("Fisika", dictionary.valueOf(fisika));
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskmanager.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class TaskIdsTest {
+
+    @Test
+    void newIdsRoundTrip() {
+        long id = TaskIds.next();
+        assertEquals(id, TaskIds.parse(TaskIds.format(id)));
+        assertTrue(TaskIds.next() > id);
+    }
+
+    @Test
+    void legacyIdsKeepEightDigits() {
+        assertEquals("0000abcd", TaskIds.format(0xabcdL));
+        assertEquals(0xabcdL, TaskIds.parse("0000abcd"));
+        assertEquals(0xdeadbeefL, TaskIds.parse("deadbeef"));
+    }
+
+    // Id yang dibuat next() setelah ~2033: milidetik >= 2^38, bit 62 terpakai, 16 digit hex
+    @Test
+    void sixteenDigitIdsRoundTrip() {
+        long millis = (1L << 40) + 12_345;
+        long id = millis << 22 | 1023L << 12 | 4095;
+        assertTrue((id & 1L << 62) != 0);
+
+        String hex = TaskIds.format(id);
+        assertEquals(16, hex.length());
+        assertEquals(id, TaskIds.parse(hex));
+        assertEquals(Long.MAX_VALUE, TaskIds.parse("7fffffffffffffff"));
+    }
+
+    @Test
+    void malformedIdsAreRejected() {
+        assertThrows(NumberFormatException.class, () -> TaskIds.parse(null));
+        assertThrows(NumberFormatException.class, () -> TaskIds.parse(""));
+        assertThrows(NumberFormatException.class, () -> TaskIds.parse("xyz"));
+        assertThrows(NumberFormatException.class, () -> TaskIds.parse("-1"));
+        assertThrows(NumberFormatException.class, () -> TaskIds.parse("8000000000000000"));
+        assertThrows(NumberFormatException.class, () -> TaskIds.parse("10000000000000000"));
+    }
+}
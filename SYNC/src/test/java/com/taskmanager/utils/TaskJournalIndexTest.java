@@ -0,0 +1,70 @@
+package com.taskmanager.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskPriority;
+import com.taskmanager.model.TaskStatus;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TaskJournalIndexTest {
+
+    @TempDir
+    Path dir;
+
+    private static Task task(long key, String title, String category) {
+        return new Task(key, title, "", category, TaskPriority.values()[0], TaskStatus.DRAFT, 0, "alice",
+                0, Task.INVALID_DEADLINE);
+    }
+
+    private static Task read(TaskJournalIndex index, AppendLog log, long key) {
+        int entry = index.entry(key);
+        Task task = CSVHelper.parseTaskLine(index.record(log, entry), 1, new String[CSVHelper.TASK_COLUMNS]);
+        index.applyRenames(task, entry);
+        return task;
+    }
+
+    // Hanya rename sesudah record terakhir task itu yang berlaku
+    @Test
+    void lastRecordPerIdWithLaterRenames() {
+        AppendLog log = new AppendLog(dir.resolve("tasks.log").toString());
+        log.append(CsvTaskStore.UPSERT + task(1, "lama", "Kimia").toCSV());
+        log.append(CsvTaskStore.UPSERT + task(3, "hapus", "Kimia").toCSV());
+        log.rotate();
+        log.appendBatch(List.of(
+                CsvTaskStore.UPSERT + task(1, "baru", "Kimia").toCSV(),
+                CsvTaskStore.RENAME + CsvCodec.format("Kimia", "Biologi"),
+                CsvTaskStore.UPSERT + task(2, "dua", "Kimia").toCSV(),
+                CsvTaskStore.DELETE + TaskIds.format(3),
+                CsvTaskStore.RENAME + CsvCodec.format("Kimia", "Fisika")));
+
+        TaskJournalIndex index = TaskJournalIndex.build(log);
+        Task first = read(index, log, 1);
+        assertEquals("baru", first.getTitle());
+        assertEquals("Biologi", first.getCategory());
+        assertEquals("Fisika", read(index, log, 2).getCategory());
+        assertTrue(index.isDeleted(index.entry(3)));
+        assertEquals(LongIntMap.MISSING, index.entry(4));
+
+        // Task dari tasks.csv: semua rename di journal berlaku
+        Task fromFile = task(4, "csv", "Kimia");
+        index.applyRenames(fromFile, LongIntMap.MISSING);
+        assertEquals("Biologi", fromFile.getCategory());
+    }
+
+    @Test
+    void staleEntryReadsAsNull() {
+        AppendLog log = new AppendLog(dir.resolve("stale.log").toString());
+        log.append(CsvTaskStore.UPSERT + task(1, "satu", "Kimia").toCSV());
+        TaskJournalIndex index = TaskJournalIndex.build(log);
+        log.rotate();
+        log.discardRotated();
+
+        assertNull(index.record(log, index.entry(1)));
+    }
+}
@@ -0,0 +1,89 @@
+package com.taskmanager.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskPriority;
+import com.taskmanager.model.TaskStatus;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TaskRepositoryTest {
+    private static final String[] USERS = {"alice", "bob", "carol"};
+
+    private static Task task(long key, String title, String owner) {
+        return new Task(key, title, "", "Umum", TaskPriority.values()[0], TaskStatus.DRAFT, 0, owner,
+                0, Task.INVALID_DEADLINE);
+    }
+
+    @AfterEach
+    void resetStore() {
+        TaskRepository.useStore(new MemoryTaskStore());
+    }
+
+    // Urutan board per user harus sama dengan urutan brute force lewat update, pindah pemilik dan
+    // delete, termasuk sesudah list user dan slot dipadatkan
+    @Test
+    void boardOrderSurvivesUpdatesAndDeletes() {
+        Random random = new Random(5);
+        List<Task> seed = new ArrayList<>();
+        for (long key = 1; key <= 300; key++) {
+            seed.add(task(key, "t" + key, USERS[random.nextInt(USERS.length)]));
+        }
+        TaskRepository.useStore(new MemoryTaskStore(seed));
+
+        Map<String, List<Long>> boards = new LinkedHashMap<>();
+        for (String user : USERS) {
+            boards.put(user, new ArrayList<>());
+        }
+        Map<Long, String> ownerOf = new LinkedHashMap<>();
+        for (Task task : seed) {
+            boards.get(task.getCreatedBy()).add(task.getKey());
+            ownerOf.put(task.getKey(), task.getCreatedBy());
+        }
+        long nextKey = 301;
+
+        for (int round = 0; round < 2000; round++) {
+            List<Long> keys = new ArrayList<>(ownerOf.keySet());
+            int action = random.nextInt(10);
+            if (action < 2 || keys.isEmpty()) {
+                String owner = USERS[random.nextInt(USERS.length)];
+                TaskRepository.saveTask(task(nextKey, "baru", owner));
+                boards.get(owner).add(nextKey);
+                ownerOf.put(nextKey, owner);
+                nextKey++;
+            } else if (action < 6) {
+                long key = keys.get(random.nextInt(keys.size()));
+                TaskRepository.deleteTask(TaskIds.format(key));
+                boards.get(ownerOf.remove(key)).remove(key);
+            } else if (action < 9) {
+                long key = keys.get(random.nextInt(keys.size()));
+                TaskRepository.updateTask(task(key, "ubah " + round, ownerOf.get(key)));
+            } else {
+                long key = keys.get(random.nextInt(keys.size()));
+                String owner = USERS[random.nextInt(USERS.length)];
+                TaskRepository.updateTask(task(key, "pindah", owner));
+                if (!owner.equals(ownerOf.get(key))) {
+                    boards.get(ownerOf.get(key)).remove(key);
+                    boards.get(owner).add(key);
+                    ownerOf.put(key, owner);
+                }
+            }
+
+            if (round % 50 == 0) {
+                for (String user : USERS) {
+                    List<Long> actual = new ArrayList<>();
+                    for (Task task : TaskRepository.getTasksByUsername(user)) {
+                        actual.add(task.getKey());
+                    }
+                    assertEquals(boards.get(user), actual, user);
+                }
+            }
+        }
+    }
+}